@@ -35,18 +35,27 @@ public class ProjectSecurityConfig {
         // TODO: 프론트엔드 연결 시 CORS 설정 필요 (allowedOrigins, allowCredentials 등)
         http.cors(withDefaults());
         http.authorizeHttpRequests(auth -> auth
+                        // 인증 O (아래 GET /api/v1/posts/** permitAll보다 먼저 매칭되어야 함)
+                        .requestMatchers(HttpMethod.GET, "/api/v1/posts/liked").authenticated()
+
                         // 인증 X
                         .requestMatchers(HttpMethod.POST, "/auth/signup", "/auth/login").permitAll()
                         .requestMatchers(HttpMethod.GET, "/users/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/posts/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/comments/*/replies").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
 
                         // 인증 O
                         .requestMatchers(HttpMethod.POST, "/auth/logout").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/users/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/users/**").authenticated()
-                        .requestMatchers(HttpMethod.POST, "/api/v1/posts").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/posts", "/api/v1/posts/bulk-delete").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/v1/posts/**").authenticated()
+                        .requestMatchers(HttpMethod.PATCH, "/api/v1/posts/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/posts/**").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/blogs/*/posts/import").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/blogs/*/posts/export").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/actuator/metrics", "/actuator/metrics/**").authenticated()
 
                         .anyRequest().denyAll()
                 );
@@ -0,0 +1,71 @@
+package com.likelion.vlog.controller;
+
+import com.likelion.vlog.dto.response.PostImportResponse;
+import com.likelion.vlog.service.PostExportService;
+import com.likelion.vlog.service.PostImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 블로그 API 컨트롤러
+ * - Base URL: /api/v1/blogs
+ */
+@RestController
+@RequestMapping("/api/v1/blogs")
+@RequiredArgsConstructor
+public class BlogController {
+
+    private final PostImportService postImportService;
+    private final PostExportService postExportService;
+
+    /**
+     * 게시글 일괄 가져오기 (POST /api/v1/blogs/{blogId}/posts/import)
+     * - 인증 필요, 블로그 주인만 가능
+     * - Content-Type: application/x-ndjson (한 줄에 게시글 작성 요청 JSON 하나)
+     * - 본문은 스트림으로 한 줄씩 처리 (@RequestBody로 한 번에 읽지 않음)
+     * - 일부 줄이 실패해도 200 OK, 결과에 줄별 실패 사유 포함
+     */
+    @PostMapping(value = "/{blogId}/posts/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PostImportResponse> importPosts(
+            @PathVariable Long blogId,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+
+        PostImportResponse response = postImportService.importPosts(blogId, userDetails.getUsername(), request.getInputStream());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 게시글 내보내기 (GET /api/v1/blogs/{blogId}/posts/export?format=ndjson|csv&gzip=true)
+     * - 인증 필요, 블로그 주인만 가능
+     * - 게시글 전체를 응답 스트림에 바로 기록 (첨부파일로 다운로드)
+     * - gzip=true면 .gz 파일로 압축하여 전송
+     */
+    @GetMapping("/{blogId}/posts/export")
+    public void exportPosts(
+            @PathVariable Long blogId,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletResponse response) throws IOException {
+
+        PostExportService.Format exportFormat = PostExportService.Format.from(format);
+        postExportService.checkExportable(blogId, userDetails.getUsername());
+
+        String filename = "blog-" + blogId + "-posts." + exportFormat.extension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.contentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        postExportService.export(blogId, exportFormat, gzip, response.getOutputStream());
+    }
+}
@@ -0,0 +1,61 @@
+package com.likelion.vlog.controller;
+
+import com.likelion.vlog.dto.response.CommentResponse;
+import com.likelion.vlog.dto.response.CommentThreadResponse;
+import com.likelion.vlog.dto.response.CursorPageResponse;
+import com.likelion.vlog.service.CommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 댓글 API 컨트롤러
+ * - Base URL: /api/v1
+ */
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+
+    /**
+     * 게시글 댓글 트리 조회 (GET /api/v1/posts/{postId}/comments/tree)
+     * - 대댓글은 replies에 중첩, 형제 댓글은 작성순
+     * - maxDepth(기본 5, 최대 20)보다 깊은 대댓글은 해당 깊이의 조상 아래에 평탄화
+     */
+    @GetMapping("/posts/{postId}/comments/tree")
+    public ResponseEntity<List<CommentResponse>> getCommentTree(
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "" + CommentService.DEFAULT_MAX_DEPTH) int maxDepth) {
+        return ResponseEntity.ok(commentService.getCommentTree(postId, maxDepth));
+    }
+
+    /**
+     * 게시글 댓글 목록 조회 - 커서 페이징 (GET /api/v1/posts/{postId}/comments)
+     * - 최상위 댓글을 작성순으로 size개씩 (최대 100), 응답의 nextCursor를 다음 요청의 cursor로 전달
+     * - 각 댓글에 앞쪽 대댓글 replySize개(최대 20)와 전체 대댓글 수 포함
+     */
+    @GetMapping("/posts/{postId}/comments")
+    public ResponseEntity<CursorPageResponse<CommentThreadResponse>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replySize) {
+        return ResponseEntity.ok(commentService.getComments(postId, cursor, size, replySize));
+    }
+
+    /**
+     * 대댓글 목록 조회 - 커서 페이징 (GET /api/v1/comments/{commentId}/replies)
+     * - 댓글 목록 응답의 nextReplyCursor를 cursor로 전달하면 미리보기 이후부터 조회
+     */
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getReplies(commentId, cursor, size));
+    }
+}
@@ -1,63 +1,163 @@
 package com.likelion.vlog.controller;
 
+import com.likelion.vlog.dto.common.TagFilter;
+import com.likelion.vlog.dto.request.PostBulkDeleteRequest;
 import com.likelion.vlog.dto.request.PostCreateRequest;
+import com.likelion.vlog.dto.request.PostPatchRequest;
 import com.likelion.vlog.dto.request.PostUpdateRequest;
+import com.likelion.vlog.dto.response.CursorPageResponse;
+import com.likelion.vlog.dto.response.LikeResponse;
+import com.likelion.vlog.dto.response.PostBulkDeleteResponse;
 import com.likelion.vlog.dto.response.PageResponse;
 import com.likelion.vlog.dto.response.PostListResponse;
+import com.likelion.vlog.dto.response.PostPatchResponse;
 import com.likelion.vlog.dto.response.PostResponse;
+import com.likelion.vlog.repository.PostVersion;
+import com.likelion.vlog.service.LikeService;
+import com.likelion.vlog.service.PostBulkDeleteService;
+import com.likelion.vlog.service.PostLiveHub;
 import com.likelion.vlog.service.PostService;
+import com.likelion.vlog.service.PostViewCounter;
+import com.likelion.vlog.service.TagInterner;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Objects;
 
 /**
  * 게시글 API 컨트롤러
  * - Base URL: /api/v1/posts
  * - 인증이 필요한 API는 @AuthenticationPrincipal로 사용자 정보 획득
+ * - 조회 API는 ETag / Last-Modified 조건부 GET 지원
+ *   (If-None-Match / If-Modified-Since가 현재 버전과 같으면 본문 조회 없이 304 Not Modified)
  */
 @RestController
 @RequestMapping("/api/v1/posts")
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostService postService;
+    private final PostViewCounter postViewCounter;
+    private final PostBulkDeleteService postBulkDeleteService;
+    private final PostLiveHub postLiveHub;
+    private final LikeService likeService;
+    private final TagInterner tagInterner;
 
     /**
      * 게시글 목록 조회 (GET /api/v1/posts)
      * - 페이징: ?page=0&size=10
      * - 필터링: ?tag=Spring&blogId=1
+     * - 다중 태그: ?tag=Spring&tag=JPA&mode=all(모두 포함, 기본값) | any(하나라도 포함), 최신순 고정
      * - 정렬: 기본값 created_at DESC (최신순)
+     * - 버전: 필터 조건에 해당하는 게시글의 최대 updatedAt 기준
      */
     @GetMapping
     public ResponseEntity<PageResponse<PostListResponse>> getPosts(
-            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) List<String> tag,
+            @RequestParam(required = false) String mode,
             @RequestParam(required = false) Long blogId,
-            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            WebRequest webRequest) {
 
-        PageResponse<PostListResponse> response = postService.getPosts(tag, blogId, pageable);
-        return ResponseEntity.ok(response);
+        TagFilter tagFilter = TagFilter.of(tag, mode);
+        if (isNotModified(postService.getPostsByTagsVersion(tagFilter, blogId), "posts", webRequest)) {
+            return null;
+        }
+        PageResponse<PostListResponse> response = postService.getPostsByTags(tagFilter, blogId, pageable);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    /**
+     * 게시글 목록 조회 - 커서 페이징 (GET /api/v1/posts?cursor=)
+     * - cursor 파라미터가 있으면 이 메서드로 매핑 (빈 값이면 첫 페이지)
+     * - 응답의 nextCursor를 다음 요청의 cursor로 전달
+     * - 필터링: ?tag=Spring&tag=JPA&mode=all|any&blogId=1 (최신순 고정)
+     */
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<PostListResponse>> getPostsByCursor(
+            @RequestParam(required = false) List<String> tag,
+            @RequestParam(required = false) String mode,
+            @RequestParam(required = false) Long blogId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        TagFilter tagFilter = TagFilter.of(tag, mode);
+        if (isNotModified(postService.getPostsByTagsVersion(tagFilter, blogId), "posts", webRequest)) {
+            return null;
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        CursorPageResponse<PostListResponse> response = postService.getPostsByTagsCursor(tagFilter, blogId, cursor, pageSize);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    /**
+     * 인기 게시글 목록 조회 (GET /api/v1/posts?sort=trending)
+     * - 페이징: ?page=0&size=10
+     * - 조회/좋아요/댓글 가중치를 시간에 따라 감쇠시킨 점수 순 (상위 capacity개까지)
+     * - 순위가 계속 바뀌므로 조건부 GET 미지원
+     */
+    @GetMapping(params = {"sort=trending", "!cursor"})
+    public ResponseEntity<PageResponse<PostListResponse>> getTrendingPosts(
+            @PageableDefault(size = 10) Pageable pageable) {
+
+        return ResponseEntity.ok(postService.getTrendingPosts(pageable));
     }
 
     /**
      * 게시글 상세 조회 (GET /api/v1/posts/{postId})
      * - 인증 불필요 (비로그인도 조회 가능)
+     * - 조회수는 방문자(세션, 없으면 IP) 단위로 중복 제외 후 집계 (304 응답도 조회로 집계)
+     * - 버전: 게시글 id + updatedAt + 좋아요/댓글 수 (조회수 변경만으로는 버전이 바뀌지 않음)
      */
     @GetMapping("/{postId}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable Long postId) {
+    public ResponseEntity<PostResponse> getPost(@PathVariable Long postId,
+                                                HttpServletRequest request,
+                                                WebRequest webRequest) {
+        PostVersion version = postService.getPostVersion(postId);
+        if (isNotModified(version, String.valueOf(postId), webRequest)) {
+            postViewCounter.record(postId, viewerKey(request));
+            return null;
+        }
+
         PostResponse response = postService.getPost(postId);
-        return ResponseEntity.ok(response);
+        postViewCounter.record(postId, viewerKey(request));
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
+    /**
+     * 게시글 실시간 이벤트 구독 (GET /api/v1/posts/{postId}/live, text/event-stream)
+     * - 인증 불필요
+     * - comment: 새 댓글, counters: 좋아요/댓글 수 (변경이 있을 때 일정 주기로 합쳐서 전송)
+     * - 요청 스레드는 바로 반환, 이벤트 전송은 PostLiveHub에서 처리
+     */
+    @GetMapping(value = "/{postId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long postId) {
+        return postLiveHub.subscribe(postId);
     }
 
     /**
      * 게시글 작성 (POST /api/v1/posts)
      * - 인증 필요 (SecurityConfig에서 처리)
+     * - 없는 태그는 게시글 트랜잭션 시작 전에 생성 (TagInterner.prepare)
      * - 성공 시 201 Created
      */
     @PostMapping
@@ -65,6 +165,7 @@ public class PostController {
             @Valid @RequestBody PostCreateRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
 
+        tagInterner.prepare(request.getTags());
         PostResponse response = postService.createPost(request, userDetails.getUsername());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -73,6 +174,7 @@ public class PostController {
      * 게시글 수정 (PUT /api/v1/posts/{postId})
      * - 인증 필요
      * - 작성자만 수정 가능 (403 Forbidden은 Service에서 처리)
+     * - 없는 태그는 게시글 트랜잭션 시작 전에 생성 (TagInterner.prepare)
      */
     @PutMapping("/{postId}")
     public ResponseEntity<PostResponse> updatePost(
@@ -80,10 +182,27 @@ public class PostController {
             @Valid @RequestBody PostUpdateRequest request,
             @AuthenticationPrincipal UserDetails userDetails) {
 
+        tagInterner.prepare(request.getTags());
         PostResponse response = postService.updatePost(postId, request, userDetails.getUsername());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 게시글 본문 부분 수정 (PATCH /api/v1/posts/{postId})
+     * - 인증 필요, 작성자만 가능
+     * - 자동 저장용: 전체 본문 대신 기준 버전 + 변경 목록만 전송
+     * - 기준 버전이 현재 버전과 다르면 409 Conflict (최신 본문을 다시 불러와야 함)
+     */
+    @PatchMapping("/{postId}")
+    public ResponseEntity<PostPatchResponse> patchPost(
+            @PathVariable Long postId,
+            @Valid @RequestBody PostPatchRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        PostPatchResponse response = postService.patchPost(postId, request, userDetails.getUsername());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 게시글 삭제 (DELETE /api/v1/posts/{postId})
      * - 인증 필요
@@ -98,4 +217,76 @@ public class PostController {
         postService.deletePost(postId, userDetails.getUsername());
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 좋아요 여부 일괄 확인 (GET /api/v1/posts/liked?postIds=1,2,3)
+     * - 인증 필요
+     * - 요청한 게시글 중 로그인 사용자가 좋아요 한 게시글 id 목록 (최대 100개 확인)
+     */
+    @GetMapping("/liked")
+    public ResponseEntity<List<Long>> getLikedPostIds(
+            @RequestParam List<Long> postIds,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        return ResponseEntity.ok(likeService.getLikedPostIds(userDetails.getUsername(), postIds));
+    }
+
+    /**
+     * 좋아요 (PUT /api/v1/posts/{postId}/like)
+     * - 인증 필요
+     * - 멱등: 이미 좋아요 상태면 변경 없이 현재 상태 반환
+     */
+    @PutMapping("/{postId}/like")
+    public ResponseEntity<LikeResponse> like(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        return ResponseEntity.ok(likeService.like(postId, userDetails.getUsername()));
+    }
+
+    /**
+     * 좋아요 취소 (DELETE /api/v1/posts/{postId}/like)
+     * - 인증 필요
+     * - 멱등: 좋아요 상태가 아니면 변경 없이 현재 상태 반환
+     */
+    @DeleteMapping("/{postId}/like")
+    public ResponseEntity<LikeResponse> unlike(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        return ResponseEntity.ok(likeService.unlike(postId, userDetails.getUsername()));
+    }
+
+    /**
+     * 게시글 일괄 삭제 (POST /api/v1/posts/bulk-delete)
+     * - 인증 필요
+     * - postIds 목록 또는 blogId + 태그 필터로 대상 지정, 모두 본인 글이어야 함
+     * - 청크 단위로 삭제되며 결과에 삭제/실패 건수 포함
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<PostBulkDeleteResponse> deletePosts(
+            @RequestBody PostBulkDeleteRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        PostBulkDeleteResponse response = postBulkDeleteService.deletePosts(request, userDetails.getUsername());
+        return ResponseEntity.ok(response);
+    }
+
+    // 조건부 GET 처리: ETag/Last-Modified 헤더를 설정하고, 클라이언트 버전과 같으면 304 상태로 응답 완료
+    // (200 응답은 Cache-Control: no-cache로 저장은 허용하되 매번 재검증하도록 함)
+    private boolean isNotModified(PostVersion version, String scope, WebRequest webRequest) {
+        return webRequest.checkNotModified(version.etag(scope), version.lastModifiedMillis());
+    }
+
+    // 조회수 중복 집계 제외용 방문자 식별 값
+    // - 세션이 없으면 클라이언트 IP + User-Agent (같은 NAT 뒤의 다른 브라우저를 한 명으로 합치지 않도록)
+    // - 프록시/CDN 뒤에서는 server.forward-headers-strategy로 신뢰하는 프록시의 X-Forwarded-For를 getRemoteAddr()에 반영
+    private String viewerKey(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            return "s:" + session.getId();
+        }
+        String userAgent = request.getHeader(HttpHeaders.USER_AGENT);
+        return "ip:" + request.getRemoteAddr() + ":" + Integer.toHexString(Objects.hashCode(userAgent));
+    }
+}
@@ -0,0 +1,73 @@
+package com.likelion.vlog.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이징용 불투명(opaque) 커서
+ * - 클라이언트는 값을 해석하지 않고 응답의 nextCursor를 다음 요청에 그대로 전달
+ * - 잘못된 커서는 IllegalArgumentException (400 Bad Request)
+ */
+public final class Cursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private Cursor() {
+    }
+
+    /**
+     * 마지막으로 조회한 id를 커서로 인코딩
+     */
+    public static String encode(long id) {
+        return ENCODER.encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 마지막으로 조회한 (createdAt, id)를 커서로 인코딩 (작성순 keyset 페이징용)
+     */
+    public static String encode(LocalDateTime createdAt, long id) {
+        return ENCODER.encodeToString((createdAt + "," + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 id로 디코딩
+     * - null 또는 빈 문자열이면 첫 페이지로 보고 null 반환
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(raw);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + cursor);
+        }
+    }
+
+    /**
+     * 커서를 (createdAt, id)로 디코딩
+     * - null 또는 빈 문자열이면 첫 페이지로 보고 null 반환
+     */
+    public static Keyset decodeKeyset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.indexOf(',');
+            if (comma < 0) {
+                throw new IllegalArgumentException();
+            }
+            return new Keyset(LocalDateTime.parse(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor=" + cursor);
+        }
+    }
+
+    public record Keyset(LocalDateTime createdAt, long id) {
+    }
+}
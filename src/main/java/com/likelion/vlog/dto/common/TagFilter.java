@@ -0,0 +1,59 @@
+package com.likelion.vlog.dto.common;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 게시글 목록 태그 필터 (?tag=Spring&tag=JPA&mode=all|any)
+ * - all: 모든 태그가 달린 게시글 (AND), any: 하나라도 달린 게시글 (OR)
+ * - 태그명은 저장 시와 같이 정규화 (앞뒤 공백 제거, 연속 공백 하나로), 대소문자만 다른 태그는 중복으로 보고 제거
+ * - 빈 값/중복 태그는 제거, 태그 개수는 MAX_TAGS까지
+ * - 잘못된 mode 또는 태그 개수 초과는 IllegalArgumentException (400 Bad Request)
+ */
+public record TagFilter(List<String> tags, Mode mode) {
+
+    public static final int MAX_TAGS = 10;
+
+    public enum Mode {
+        ALL, ANY
+    }
+
+    public static TagFilter of(List<String> tags, String mode) {
+        Map<String, String> distinct = new LinkedHashMap<>();
+        if (tags != null) {
+            tags.stream()
+                    .filter(tag -> tag != null && !tag.isBlank())
+                    .map(tag -> tag.trim().replaceAll("\\s+", " "))
+                    .forEach(tag -> distinct.putIfAbsent(tag.toLowerCase(Locale.ROOT), tag));
+        }
+        if (distinct.size() > MAX_TAGS) {
+            throw new IllegalArgumentException("태그는 최대 " + MAX_TAGS + "개까지 지정할 수 있습니다.");
+        }
+        return new TagFilter(List.copyOf(distinct.values()), parseMode(mode));
+    }
+
+    /**
+     * 태그가 하나 이하면 그 태그 (없으면 null), 여러 개면 null
+     * - 단일 태그 필터는 기존 단일 태그 조회 경로 사용
+     */
+    public String singleTag() {
+        return tags.size() == 1 ? tags.get(0) : null;
+    }
+
+    public boolean isMultiple() {
+        return tags.size() > 1;
+    }
+
+    private static Mode parseMode(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return Mode.ALL;
+        }
+        try {
+            return Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 태그 검색 모드입니다. mode=" + mode);
+        }
+    }
+}
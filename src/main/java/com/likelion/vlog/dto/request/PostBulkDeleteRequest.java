@@ -0,0 +1,25 @@
+package com.likelion.vlog.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 삭제 요청 DTO
+ * - postIds 또는 blogId 중 하나만 지정
+ * - blogId 지정 시 tags/mode로 대상 게시글 필터링 (생략하면 블로그의 모든 게시글)
+ */
+@Getter
+@NoArgsConstructor
+public class PostBulkDeleteRequest {
+
+    private List<Long> postIds;
+
+    private Long blogId;
+
+    private List<String> tags;
+
+    // all | any (기본 all)
+    private String mode;
+}
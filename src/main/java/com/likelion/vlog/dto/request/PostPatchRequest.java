@@ -0,0 +1,54 @@
+package com.likelion.vlog.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 본문 부분 수정 요청 DTO (자동 저장)
+ * - baseVersion: 편집을 시작한 본문의 버전 (현재 버전과 다르면 409 Conflict)
+ * - edits: baseVersion 본문 기준 위치의 변경 목록, 위치 오름차순이며 서로 겹치지 않아야 함
+ */
+@Getter
+@NoArgsConstructor
+public class PostPatchRequest {
+
+    @NotNull(message = "기준 버전은 필수입니다.")
+    private Long baseVersion;
+
+    @NotEmpty(message = "변경 내용은 필수입니다.")
+    @Size(max = 1000, message = "변경은 한 번에 최대 1000개까지 가능합니다.")
+    private List<@NotNull(message = "변경 항목은 null일 수 없습니다.") @Valid Edit> edits;
+
+    /**
+     * 본문 변경 한 건: position부터 delete글자를 지우고 그 자리에 insert 삽입
+     * - 위치/길이는 UTF-16 문자 단위 (JavaScript 문자열 인덱스와 동일)
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class Edit {
+
+        @PositiveOrZero(message = "위치는 0 이상이어야 합니다.")
+        private int position;
+
+        @PositiveOrZero(message = "삭제 길이는 0 이상이어야 합니다.")
+        private int delete;
+
+        // 삽입할 문자열 (null 허용)
+        private String insert;
+
+        public static Edit of(int position, int delete, String insert) {
+            Edit edit = new Edit();
+            edit.position = position;
+            edit.delete = delete;
+            edit.insert = insert;
+            return edit;
+        }
+    }
+}
@@ -5,19 +5,25 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Getter
 @Builder
 public class CommentResponse {
     private Long commentId;
+    private Long parentId;
     private String content;
     private AuthorResponse author;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @Builder.Default
+    private List<CommentResponse> replies = new ArrayList<>();
 
     public static CommentResponse from(Comment comment) {
         return CommentResponse.builder()
                 .commentId(comment.getId())
+                .parentId(comment.getParentId())
                 .content(comment.getContent())
                 .author(AuthorResponse.from(comment.getUser()))
                 .createdAt(comment.getCreatedAt())
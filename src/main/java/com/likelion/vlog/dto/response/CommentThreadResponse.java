@@ -0,0 +1,45 @@
+package com.likelion.vlog.dto.response;
+
+import com.likelion.vlog.dto.common.Cursor;
+import com.likelion.vlog.entity.Comment;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 댓글 목록(커서 페이징) 응답 DTO
+ * - 최상위 댓글 + 앞쪽 대댓글 일부 + 전체 대댓글 수
+ * - 나머지 대댓글은 nextReplyCursor로 대댓글 조회 API에서 이어서 조회
+ */
+@Getter
+@Builder
+public class CommentThreadResponse {
+    private Long commentId;
+    private String content;
+    private AuthorResponse author;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long replyCount;
+    private List<CommentResponse> replies;
+    private String nextReplyCursor;     // 남은 대댓글이 없으면 null
+
+    public static CommentThreadResponse of(Comment comment, List<Comment> replies, long replyCount) {
+        String nextReplyCursor = null;
+        if (!replies.isEmpty() && replies.size() < replyCount) {
+            Comment last = replies.get(replies.size() - 1);
+            nextReplyCursor = Cursor.encode(last.getCreatedAt(), last.getId());
+        }
+        return CommentThreadResponse.builder()
+                .commentId(comment.getId())
+                .content(comment.getContent())
+                .author(AuthorResponse.from(comment.getUser()))
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .replyCount(replyCount)
+                .replies(replies.stream().map(CommentResponse::from).toList())
+                .nextReplyCursor(nextReplyCursor)
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.likelion.vlog.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이징 응답 DTO
+ * - PageResponse와 달리 COUNT 쿼리를 실행하지 않음 (totalElements 없음)
+ * - nextCursor를 다음 요청의 cursor 파라미터로 전달
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> content;        // 실제 데이터 목록
+    private CursorInfo cursorInfo;  // 커서 메타 정보
+
+    @Getter
+    @Builder
+    public static class CursorInfo {
+        private int size;           // 요청한 페이지 크기
+        private boolean hasNext;    // 다음 페이지 존재 여부
+        private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+    }
+
+    /**
+     * Spring Data Slice를 API 응답 형식으로 변환
+     * @param slice Spring Data Slice 객체 (다음 페이지 여부 추출용)
+     * @param content 변환된 DTO 목록
+     * @param nextCursor 다음 페이지 커서
+     */
+    public static <T> CursorPageResponse<T> of(Slice<?> slice, List<T> content, String nextCursor) {
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .cursorInfo(CursorInfo.builder()
+                        .size(slice.getSize())
+                        .hasNext(slice.hasNext())
+                        .nextCursor(slice.hasNext() ? nextCursor : null)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.likelion.vlog.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 좋아요 / 좋아요 취소 응답 DTO
+ */
+@Getter
+@Builder
+public class LikeResponse {
+    private Long postId;
+    private boolean liked;      // 요청 처리 후 상태
+    private int likeCount;
+
+    public static LikeResponse of(Long postId, boolean liked, int likeCount) {
+        return LikeResponse.builder()
+                .postId(postId)
+                .liked(liked)
+                .likeCount(likeCount)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.likelion.vlog.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시글 일괄 삭제 결과 DTO
+ * - 청크마다 따로 커밋되므로 일부 청크만 실패할 수 있음 (failed > 0이면 같은 요청으로 재시도)
+ */
+@Getter
+@Builder
+public class PostBulkDeleteResponse {
+    private long requested;     // 삭제 대상 게시글 수
+    private long deleted;       // 삭제된 게시글 수
+    private long failed;        // 삭제에 실패한 청크의 게시글 수
+
+    public static PostBulkDeleteResponse of(long requested, long deleted, long failed) {
+        return PostBulkDeleteResponse.builder()
+                .requested(requested)
+                .deleted(deleted)
+                .failed(failed)
+                .build();
+    }
+}
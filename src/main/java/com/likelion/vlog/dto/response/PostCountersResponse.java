@@ -0,0 +1,23 @@
+package com.likelion.vlog.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 게시글 좋아요/댓글 수 실시간 이벤트 DTO (SSE "counters" 이벤트)
+ */
+@Getter
+@Builder
+public class PostCountersResponse {
+    private Long postId;
+    private int likeCount;
+    private int commentCount;
+
+    public static PostCountersResponse of(Long postId, int likeCount, int commentCount) {
+        return PostCountersResponse.builder()
+                .postId(postId)
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .build();
+    }
+}
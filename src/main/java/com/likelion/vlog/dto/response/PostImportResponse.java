@@ -0,0 +1,33 @@
+package com.likelion.vlog.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 가져오기 결과 DTO
+ * - errors는 앞에서부터 최대 개수까지만 포함 (초과 시 errorsTruncated = true, 개수는 failed로 확인)
+ */
+@Getter
+@Builder
+public class PostImportResponse {
+    private long imported;              // 저장된 게시글 수
+    private long failed;                // 실패한 줄 수
+    private List<LineError> errors;     // 줄별 실패 사유
+    private boolean errorsTruncated;
+
+    @Getter
+    @Builder
+    public static class LineError {
+        private long line;              // 1부터 시작하는 줄 번호
+        private String message;
+
+        public static LineError of(long line, String message) {
+            return LineError.builder()
+                    .line(line)
+                    .message(message)
+                    .build();
+        }
+    }
+}
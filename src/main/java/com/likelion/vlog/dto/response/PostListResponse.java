@@ -1,6 +1,6 @@
 package com.likelion.vlog.dto.response;
 
-import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.repository.PostSummary;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -10,25 +10,34 @@ import java.util.List;
 /**
  * 게시글 목록 조회 응답 DTO
  * - 목록에서는 content 대신 summary(100자 요약) 사용
- * - 좋아요/댓글 수는 Sprint 2에서 구현 예정
+ * - 태그/좋아요 수/댓글 수는 페이지 단위 일괄 조회 결과를 병합 (PostService)
  */
 @Getter
 @Builder
 public class PostListResponse {
     private Long postId;
     private String title;
-    private String content;
+    private String summary;
     private AuthorResponse author;
+    private List<String> tags;
+    private int likeCount;
+    private int commentCount;
     private LocalDateTime createdAt;
 
-    public static PostListResponse of(Post post) {
+    public static PostListResponse of(PostSummary summary, List<String> tags, int likeCount, int commentCount) {
 
         return PostListResponse.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .author(AuthorResponse.from(post.getBlog().getUser()))
-                .createdAt(post.getCreatedAt())
+                .postId(summary.postId())
+                .title(summary.title())
+                .summary(summary.summary())
+                .author(AuthorResponse.builder()
+                        .userId(summary.authorId())
+                        .nickname(summary.authorNickname())
+                        .build())
+                .tags(tags)
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .createdAt(summary.createdAt())
                 .build();
     }
-}
\ No newline at end of file
+}
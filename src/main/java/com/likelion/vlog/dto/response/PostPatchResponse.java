@@ -0,0 +1,29 @@
+package com.likelion.vlog.dto.response;
+
+import com.likelion.vlog.entity.Post;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 본문 부분 수정 응답 DTO
+ * - 본문은 돌려주지 않음 (다음 자동 저장의 기준 버전과 길이만)
+ */
+@Getter
+@Builder
+public class PostPatchResponse {
+    private Long postId;
+    private Long version;           // 다음 요청의 baseVersion
+    private int contentLength;      // 적용 후 본문 길이 (클라이언트 본문과 비교용)
+    private LocalDateTime updatedAt;
+
+    public static PostPatchResponse from(Post post) {
+        return PostPatchResponse.builder()
+                .postId(post.getId())
+                .version(post.getVersion())
+                .contentLength(post.getContent().length())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+}
@@ -10,21 +10,26 @@ import java.util.List;
 /**
  * 게시글 상세 조회 응답 DTO
  * - 게시글 전체 내용 포함
- * - 좋아요/댓글은 Sprint 2에서 구현 예정
+ * - 좋아요/댓글/조회수 포함 (댓글 목록은 Sprint 2에서 구현 예정)
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class PostResponse {
     private Long postId;
     private String title;
     private String content;
     private AuthorResponse author;
     private List<String> tags;
+    private int likeCount;
+    private int commentCount;
+    private long viewCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;           // 자동 저장(PATCH)의 기준 버전
 
     /**
      * 정적 팩토리 메서드
+     * - 카운터는 엔티티에 저장된 값 (상세 조회는 미반영 증감량을 toBuilder()로 보정)
      */
     public static PostResponse of(Post post, List<String> tags) {
         return PostResponse.builder()
@@ -33,8 +38,12 @@ public class PostResponse {
                 .content(post.getContent())
                 .author(AuthorResponse.from(post.getBlog().getUser()))
                 .tags(tags)
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
+                .viewCount(post.getViewCount())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
+                .version(post.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -26,4 +26,9 @@ public abstract class BaseEntity {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    // 컬럼 변경이 없어도(연관관계만 변경) 수정 시각을 갱신하여 변경 감지 대상이 되도록 함
+    protected void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
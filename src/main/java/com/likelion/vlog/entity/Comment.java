@@ -1,5 +1,6 @@
 package com.likelion.vlog.entity;
 
+import com.likelion.vlog.service.CommentEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -10,7 +11,13 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "comments")
+@EntityListeners(CommentEntityListener.class)
+@Table(name = "comments", indexes = {
+        // 최상위 댓글 커서 페이징 (post_id, parent_id IS NULL, (created_at, comment_id) 범위)
+        @Index(name = "idx_comments_post_parent_created_id", columnList = "post_id, parent_id, created_at, comment_id"),
+        // 대댓글 커서 페이징 / 대댓글 수 집계
+        @Index(name = "idx_comments_parent_created_id", columnList = "parent_id, created_at, comment_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
 
@@ -36,6 +43,10 @@ public class Comment extends BaseEntity {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    // 부모 댓글 id (읽기 전용, 트리 조립 시 부모 프록시를 건드리지 않기 위함)
+    @Column(name = "parent_id", insertable = false, updatable = false)
+    private Long parentId;
+
     private String content;
 
     // 댓글 생성 메서드
@@ -53,6 +64,7 @@ public class Comment extends BaseEntity {
         reply.user = user;
         reply.post = post;
         reply.parent = parent;
+        reply.parentId = parent.getId();
         reply.content = content;
         return reply;
     }
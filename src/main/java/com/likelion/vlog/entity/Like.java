@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "likes")
+// 사용자당 게시글 하나에 좋아요 하나 (좋아요 API의 INSERT ... ON DUPLICATE KEY UPDATE가 이 제약으로 중복을 원자적으로 걸러냄)
+@Table(name = "likes", uniqueConstraints =
+        @UniqueConstraint(name = "uk_likes_user_post", columnNames = {"user_id", "post_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Like extends BaseEntity {
 
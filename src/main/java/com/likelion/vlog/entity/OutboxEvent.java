@@ -0,0 +1,59 @@
+package com.likelion.vlog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스
+ * - 도메인 변경과 같은 트랜잭션에서 저장 -> 변경이 커밋되면 이벤트도 반드시 남고, 롤백되면 함께 사라짐
+ * - OutboxRelay가 published_at이 없는 이벤트를 id 순으로 읽어 전달 후 published_at 기록
+ * - 전달에 실패하면 attempts만 증가시키고 다음 주기에 재시도 (at-least-once)
+ */
+@Entity
+@Getter
+@Table(name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_events_published_at_id", columnList = "published_at, outbox_event_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private OutboxEventType eventType;
+
+    // 이벤트 내용 (JSON)
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    private int attempts;
+
+    // 아웃박스 이벤트 생성 메서드
+    public static OutboxEvent create(OutboxEventType eventType, Long aggregateId, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.aggregateType = eventType.aggregateType();
+        event.aggregateId = aggregateId;
+        event.eventType = eventType;
+        event.payload = payload;
+        event.occurredAt = LocalDateTime.now();
+        return event;
+    }
+}
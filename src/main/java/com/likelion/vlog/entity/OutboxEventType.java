@@ -0,0 +1,28 @@
+package com.likelion.vlog.entity;
+
+/**
+ * 아웃박스 이벤트 종류
+ * - aggregateType: 이벤트가 속한 집합체 (순서 보장 단위 = aggregateType + aggregateId)
+ * - 게시글: 본문/태그의 생성/수정/삭제 (작성, 수정, 자동 저장, 일괄 가져오기, 일괄 삭제, 계정 정리 모두 기록)
+ * - 댓글/좋아요: 게시글 집합체에 속함 (aggregateId = postId)
+ *   -> 같은 게시글의 좋아요/취소/삭제가 발생 순서대로 전달되어 파생 데이터가 뒤집히지 않음
+ */
+public enum OutboxEventType {
+    POST_CREATED("POST"),
+    POST_UPDATED("POST"),
+    POST_DELETED("POST"),
+    COMMENT_CREATED("POST"),
+    COMMENT_DELETED("POST"),
+    LIKE_ADDED("POST"),
+    LIKE_REMOVED("POST");
+
+    private final String aggregateType;
+
+    OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+
+    public String aggregateType() {
+        return aggregateType;
+    }
+}
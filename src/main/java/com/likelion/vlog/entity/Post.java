@@ -4,12 +4,14 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
+@DynamicUpdate // 자동 저장(PATCH)은 본문만 바뀌므로 변경된 컬럼만 UPDATE
 @Table(name = "posts")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
@@ -23,9 +25,24 @@ public class Post extends BaseEntity {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // 목록 조회용 요약 (작성/수정 시점에 계산, 목록에서는 TEXT 컬럼을 읽지 않음)
+    @Column(length = 255)
+    private String excerpt;
+
     @Column(name = "view_count")
     private int viewCount;
 
+    // 비정규화 카운터 (PostCounterService가 주기적으로 일괄 반영)
+    @Column(name = "like_count")
+    private int likeCount;
+
+    @Column(name = "comment_count")
+    private int commentCount;
+
+    // 낙관적 락: 본문/제목 수정 시 증가 (카운터는 JDBC로 직접 반영하므로 증가하지 않음)
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "blog_id")
     private Blog blog;
@@ -38,8 +55,11 @@ public class Post extends BaseEntity {
         Post post = new Post();
         post.title = title;
         post.content = content;
+        post.excerpt = PostExcerpt.from(content);
         post.blog = blog;
         post.viewCount = 0;
+        post.likeCount = 0;
+        post.commentCount = 0;
         return post;
     }
 
@@ -47,5 +67,20 @@ public class Post extends BaseEntity {
     public void update(String title, String content) {
         this.title = title;
         this.content = content;
+        this.excerpt = PostExcerpt.from(content);
+        // 태그만 바뀐 경우에도 updatedAt(ETag/Last-Modified 기준)이 갱신되도록
+        touch();
+    }
+
+    // 본문만 수정 (자동 저장)
+    public void updateContent(String content) {
+        this.content = content;
+        this.excerpt = PostExcerpt.from(content);
+        touch();
+    }
+
+    // 요약 재계산 메서드 (기존 데이터 백필용)
+    public void refreshExcerpt() {
+        this.excerpt = PostExcerpt.from(this.content);
     }
 }
@@ -0,0 +1,50 @@
+package com.likelion.vlog.entity;
+
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 요약(excerpt) 생성기
+ * - 목록 조회에서 본문(TEXT) 대신 읽을 수 있도록 작성/수정 시점에 계산하여 저장
+ * - 마크다운 문법/HTML 태그/연속 공백 제거
+ * - 코드 포인트 기준으로 자르므로 이모지 등 서로게이트 쌍이 깨지지 않음
+ */
+public final class PostExcerpt {
+
+    public static final int MAX_LENGTH = 100;   // 요약 최대 길이 (코드 포인트 기준)
+    private static final String ELLIPSIS = "...";
+
+    private static final Pattern CODE_BLOCK = Pattern.compile("```.*?(```|\\z)", Pattern.DOTALL);
+    private static final Pattern IMAGE = Pattern.compile("!\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]*)]\\([^)]*\\)");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>\\n]+>");
+    private static final Pattern LINE_MARKER = Pattern.compile("(?m)^\\s*(#{1,6}|>+|[-*+]|\\d+\\.)\\s+");
+    private static final Pattern EMPHASIS = Pattern.compile("\\*+|~~|`+|(?<!\\w)_+|_+(?!\\w)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private PostExcerpt() {
+    }
+
+    /**
+     * 본문으로부터 요약 생성
+     * - MAX_LENGTH 초과 시 잘라낸 뒤 "..." 추가
+     */
+    public static String from(String content) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+
+        String text = CODE_BLOCK.matcher(content).replaceAll(" ");
+        text = IMAGE.matcher(text).replaceAll("$1");
+        text = LINK.matcher(text).replaceAll("$1");
+        text = HTML_TAG.matcher(text).replaceAll(" ");
+        text = LINE_MARKER.matcher(text).replaceAll("");
+        text = EMPHASIS.matcher(text).replaceAll("");
+        text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+
+        if (text.codePointCount(0, text.length()) <= MAX_LENGTH) {
+            return text;
+        }
+        int end = text.offsetByCodePoints(0, MAX_LENGTH);
+        return text.substring(0, end).stripTrailing() + ELLIPSIS;
+    }
+}
@@ -10,11 +10,15 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "tags")
+@Table(name = "tags", uniqueConstraints = @UniqueConstraint(name = "uk_tags_title", columnNames = "title"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Tag extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 insert마다 id를 받아와야 해서 JDBC batch insert가 불가능 -> 시퀀스(pooled)로 id를 미리 할당
+    // (MySQL은 시퀀스가 없으므로 Hibernate가 tags_seq 테이블로 대체, allocationSize만큼 한 번에 예약)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_seq_generator")
+    @SequenceGenerator(name = "tag_seq_generator", sequenceName = "tags_seq", allocationSize = 50)
     @Column(name = "tag_id")
     private Long id;
 
@@ -11,8 +11,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TagMap extends BaseEntity {
 
+    // batch insert를 위해 시퀀스(pooled)로 id 할당 (Tag와 동일)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_map_seq_generator")
+    @SequenceGenerator(name = "tag_map_seq_generator", sequenceName = "tag_maps_seq", allocationSize = 50)
     @Column(name = "tag_map_id")
     private Long id;
 
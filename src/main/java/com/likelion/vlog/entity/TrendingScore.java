@@ -0,0 +1,28 @@
+package com.likelion.vlog.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 게시글 순위 체크포인트 (TrendingRanking이 주기적으로 전체 교체)
+ * - score: checkpointedAt 시점까지 감쇠가 적용된 점수
+ * - 읽기/쓰기는 TrendingRanking에서 JDBC batch로 처리 (테이블 정의용 엔티티)
+ */
+@Entity
+@Getter
+@Table(name = "trending_scores")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TrendingScore {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    private double score;
+
+    private LocalDateTime checkpointedAt;
+}
@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter @Setter
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_deleted_at", columnList = "deleted_at"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
 
@@ -38,6 +38,10 @@ public class User {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // 탈퇴 요청 시각 (null이 아니면 삭제 대기, AccountPurger가 작성한 데이터를 정리한 뒤 실제 삭제)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @PrePersist
     private void prePersist() {
         Blog blog = new  Blog();
@@ -59,6 +63,17 @@ public class User {
     }
 
 
+    // 탈퇴 처리 (즉시 비활성화, 실제 삭제는 백그라운드에서)
+    public void tombstone() {
+        if (this.deletedAt == null) {
+            this.deletedAt = LocalDateTime.now();
+        }
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
     public static User of(SignupRequestDto signupRequestDto, PasswordEncoder passwordEncoder){
         User user = new User();
         user.setEmail(signupRequestDto.getEmail());
@@ -0,0 +1,16 @@
+package com.likelion.vlog.exception;
+
+/**
+ * 요청의 기준 상태가 현재 상태와 다를 때 발생하는 예외 (409 Conflict)
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public static ConflictException postVersion(Long postId, Long currentVersion) {
+        return new ConflictException("게시글이 다른 곳에서 먼저 수정되었습니다. postId=" + postId
+                + ", currentVersion=" + currentVersion);
+    }
+}
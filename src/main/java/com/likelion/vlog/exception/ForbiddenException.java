@@ -17,6 +17,14 @@ public class ForbiddenException extends RuntimeException {
         return new ForbiddenException("게시글 삭제 권한이 없습니다.");
     }
 
+    public static ForbiddenException postImport() {
+        return new ForbiddenException("게시글 가져오기 권한이 없습니다.");
+    }
+
+    public static ForbiddenException postExport() {
+        return new ForbiddenException("게시글 내보내기 권한이 없습니다.");
+    }
+
     public static ForbiddenException userUpdate() {
         return new ForbiddenException("사용자 정보 수정 권한이 없습니다.");
     }
@@ -1,6 +1,7 @@
 package com.likelion.vlog.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -49,6 +50,26 @@ public class GlobalExceptionHandler {
                 .body(errorResponse(HttpStatus.CONFLICT, e.getMessage()));
     }
 
+    /**
+     * 409 Conflict - 기준 버전 불일치
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflictException(ConflictException e) {
+        log.warn("ConflictException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(errorResponse(HttpStatus.CONFLICT, e.getMessage()));
+    }
+
+    /**
+     * 409 Conflict - 버전 확인 후 저장 전에 다른 요청이 먼저 커밋함 (@Version)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.warn("OptimisticLockingFailureException: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(errorResponse(HttpStatus.CONFLICT, "다른 곳에서 먼저 수정되었습니다. 최신 내용을 다시 불러와 주세요."));
+    }
+
     /**
      * 400 Bad Request - 잘못된 요청
      */
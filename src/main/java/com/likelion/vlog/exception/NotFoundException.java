@@ -13,6 +13,10 @@ public class NotFoundException extends RuntimeException {
         return new NotFoundException("게시글을 찾을 수 없습니다. id=" + postId);
     }
 
+    public static NotFoundException comment(Long commentId) {
+        return new NotFoundException("댓글을 찾을 수 없습니다. id=" + commentId);
+    }
+
     public static NotFoundException user(Long userId) {
         return new NotFoundException("사용자를 찾을 수 없습니다. id=" + userId);
     }
@@ -24,4 +28,8 @@ public class NotFoundException extends RuntimeException {
     public static NotFoundException blog(Long userId) {
         return new NotFoundException("블로그를 찾을 수 없습니다. userId=" + userId);
     }
+
+    public static NotFoundException blogById(Long blogId) {
+        return new NotFoundException("블로그를 찾을 수 없습니다. id=" + blogId);
+    }
 }
@@ -2,10 +2,15 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Comment;
 import com.likelion.vlog.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -14,7 +19,74 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     int countByPost(Post post);
 
+    // 최상위 댓글 + 대댓글 한 단계 (fetch join)
+    @Query("SELECT DISTINCT c FROM Comment c LEFT JOIN FETCH c.children WHERE c.post = :post AND c.parent IS NULL")
+    List<Comment> findAllByPostWithChildren(@Param("post") Post post);
+
+    // 댓글 트리 조립용: 게시글의 모든 댓글 + 작성자를 쿼리 한 번으로 (id 순 = 부모가 자식보다 먼저)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId ORDER BY c.id")
+    List<Comment> findAllWithUserByPostId(@Param("postId") Long postId);
+
+    // 최상위 댓글 커서 페이징 (작성순): 첫 페이지 / (createdAt, id) 이후 페이지
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.post.id = :postId AND c.parentId IS NULL ORDER BY c.createdAt, c.id")
+    Slice<Comment> findRootsByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.post.id = :postId AND c.parentId IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    Slice<Comment> findRootsByPostIdAfter(@Param("postId") Long postId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    // 대댓글 커서 페이징 (작성순): 첫 페이지 / (createdAt, id) 이후 페이지
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.parentId = :parentId ORDER BY c.createdAt, c.id")
+    Slice<Comment> findRepliesByParentId(@Param("parentId") Long parentId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+            "WHERE c.parentId = :parentId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    Slice<Comment> findRepliesByParentIdAfter(@Param("parentId") Long parentId,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
+    // 여러 최상위 댓글의 앞쪽 대댓글 limit개씩의 id (부모별 작성순)
+    @Query(value = "SELECT r.comment_id FROM (" +
+            "SELECT c.comment_id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.comment_id) AS rn " +
+            "FROM comments c WHERE c.parent_id IN (:parentIds)) r " +
+            "WHERE r.rn <= :limit", nativeQuery = true)
+    List<Long> findFirstReplyIdsByParentIds(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id IN :ids ORDER BY c.createdAt, c.id")
+    List<Comment> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 여러 최상위 댓글의 대댓글 수 (parentId, count)
+    @Query("SELECT c.parentId, COUNT(c) FROM Comment c WHERE c.parentId IN :parentIds GROUP BY c.parentId")
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
     // N+1 해결: 여러 Post의 댓글 수를 한번에 조회
     @Query("SELECT c.post.id, COUNT(c) FROM Comment c WHERE c.post IN :posts GROUP BY c.post.id")
     List<Object[]> countByPosts(@Param("posts") List<Post> posts);
+
+    // 게시글 일괄 삭제 1단계: 같은 문장 안에서 부모 댓글이 먼저 지워져 FK 위반이 나지 않도록 대댓글 연결 해제
+    @Modifying
+    @Query("UPDATE Comment c SET c.parent = null WHERE c.post.id IN :postIds AND c.parent IS NOT NULL")
+    int detachRepliesByPostIds(@Param("postIds") List<Long> postIds);
+
+    // 계정 정리용: 사용자가 작성한 댓글 (commentId, postId)
+    @Query("SELECT c.id, c.post.id FROM Comment c WHERE c.user.id = :userId ORDER BY c.id")
+    List<Object[]> findIdAndPostIdByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 삭제할 댓글에 달린 다른 사용자의 대댓글은 남기고 연결만 해제
+    @Modifying
+    @Query("UPDATE Comment c SET c.parent = null WHERE c.parent.id IN :parentIds")
+    int detachRepliesByParentIds(@Param("parentIds") List<Long> parentIds);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.post.id IN :postIds")
+    int deleteAllByPostIds(@Param("postIds") List<Long> postIds);
 }
\ No newline at end of file
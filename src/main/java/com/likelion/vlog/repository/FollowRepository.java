@@ -0,0 +1,16 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.entity.Follow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+
+    // 계정 정리용: 사용자가 팔로우하거나 팔로우받은 관계
+    @Query("SELECT f.id FROM Follow f WHERE f.follower.id = :userId OR f.following.id = :userId ORDER BY f.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+}
@@ -3,10 +3,14 @@ package com.likelion.vlog.repository;
 import com.likelion.vlog.entity.Like;
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +22,47 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     Optional<Like> findByUserAndPost(User user, Post post);
 
+    // 좋아요: true = 새로 추가, false = 이미 좋아요 상태
+    // - (user_id, post_id) 유니크 충돌만 "이미 좋아요"로 처리, 그 외 오류는 그대로 예외
+    // - 영향받은 행 수는 드라이버 설정(useAffectedRows)에 따라 의미가 달라지므로 쓰지 않고,
+    //   같은 커넥션의 LAST_INSERT_ID()로 구분 (새로 추가되면 생성된 like_id, 중복이면 0)
+    default boolean insertIfAbsent(Long userId, Long postId, LocalDateTime now) {
+        insertOrKeep(userId, postId, now);
+        return lastInsertId() != 0L;
+    }
+
+    // 중복이면 행은 그대로 두고 LAST_INSERT_ID만 0으로
+    @Modifying
+    @Query(value = "INSERT INTO likes (user_id, post_id, created_at, updated_at) " +
+            "VALUES (:userId, :postId, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE like_id = like_id + LAST_INSERT_ID(0)", nativeQuery = true)
+    int insertOrKeep(@Param("userId") Long userId, @Param("postId") Long postId, @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    Long lastInsertId();
+
+    // 좋아요 취소: 1 = 삭제됨, 0 = 이미 취소 상태
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.post.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 좋아요 색인 구성 전 대체 경로: postIds 중 사용자가 좋아요 한 게시글 id
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId AND l.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 색인 구성용: (likeId, userId, postId)를 like id 순으로 청크 조회
+    @Query("SELECT l.id, l.user.id, l.post.id FROM Like l WHERE l.id > :afterId ORDER BY l.id")
+    List<Object[]> findIndexEntries(@Param("afterId") Long afterId, Pageable pageable);
+
     // N+1 해결: 여러 Post의 좋아요 수를 한번에 조회
     @Query("SELECT l.post.id, COUNT(l) FROM Like l WHERE l.post IN :posts GROUP BY l.post.id")
     List<Object[]> countByPosts(@Param("posts") List<Post> posts);
+
+    // 계정 정리용: 사용자가 누른 좋아요 (likeId, postId)
+    @Query("SELECT l.id, l.post.id FROM Like l WHERE l.user.id = :userId ORDER BY l.id")
+    List<Object[]> findIdAndPostIdByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.post.id IN :postIds")
+    int deleteAllByPostIds(@Param("postIds") List<Long> postIds);
 }
\ No newline at end of file
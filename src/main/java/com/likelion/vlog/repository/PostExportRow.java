@@ -0,0 +1,16 @@
+package com.likelion.vlog.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 내보내기용 프로젝션
+ * - 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않음 (스트림으로 대량 조회해도 힙 사용 일정)
+ */
+public record PostExportRow(
+        Long postId,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -1,14 +1,35 @@
 package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 목록 조회용 프로젝션: 저장된 요약(excerpt) + 작성자를 한 번의 JOIN 쿼리로 조회 (본문 TEXT 컬럼 미사용)
+    String SUMMARY_SELECT = "SELECT new com.likelion.vlog.repository.PostSummary("
+            + "p.id, p.title, p.excerpt, u.id, u.nickname, p.likeCount, p.commentCount, p.createdAt) "
+            + "FROM Post p JOIN p.blog b JOIN b.user u ";
+
+    String HAS_TAG = "EXISTS (SELECT 1 FROM TagMap tm WHERE tm.post = p AND tm.tag.title = :tagName)";
+
+    // 조건부 GET용 버전 조회: 본문/작성자 없이 집계 값만 조회
+    String VERSION_SELECT = "SELECT new com.likelion.vlog.repository.PostVersion("
+            + "COUNT(p), MAX(p.updatedAt), SUM(p.likeCount), SUM(p.commentCount)) FROM Post p ";
+
     Page<Post> findAllByBlogId(Long blogId, Pageable pageable);
 
     @Query("SELECT DISTINCT p FROM Post p JOIN p.tagMapList tm JOIN tm.tag t WHERE t.title = :tagName")
@@ -16,4 +37,95 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Query("SELECT DISTINCT p FROM Post p JOIN p.tagMapList tm JOIN tm.tag t WHERE t.title = :tagName AND p.blog.id = :blogId")
     Page<Post> findAllByTagNameAndBlogId(@Param("tagName") String tagName, @Param("blogId") Long blogId, Pageable pageable);
-}
\ No newline at end of file
+
+    // 목록 조회 (오프셋 페이징)
+    @Query(value = SUMMARY_SELECT,
+            countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummary> findSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE b.id = :blogId",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.blog.id = :blogId")
+    Page<PostSummary> findSummariesByBlogId(@Param("blogId") Long blogId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE " + HAS_TAG,
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " + HAS_TAG)
+    Page<PostSummary> findSummariesByTagName(@Param("tagName") String tagName, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE b.id = :blogId AND " + HAS_TAG,
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.blog.id = :blogId AND " + HAS_TAG)
+    Page<PostSummary> findSummariesByTagNameAndBlogId(@Param("tagName") String tagName, @Param("blogId") Long blogId, Pageable pageable);
+
+    // 블로그의 게시글 id (오름차순, 다중 태그 필터와 교집합용)
+    @Query("SELECT p.id FROM Post p WHERE p.blog.id = :blogId ORDER BY p.id")
+    List<Long> findIdsByBlogId(@Param("blogId") Long blogId);
+
+    // 계정 정리용: 사용자 블로그의 게시글 id
+    @Query("SELECT p.id FROM Post p WHERE p.blog.user.id = :userId ORDER BY p.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 일괄 삭제 권한 확인용 (postId, 작성자 이메일) - 요청한 id 전체를 한 번에 확인
+    @Query("SELECT p.id, u.email FROM Post p JOIN p.blog b JOIN b.user u WHERE p.id IN :postIds")
+    List<Object[]> findOwnerEmailsByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 API 응답용 (저장된 좋아요 수, 게시글이 없으면 empty)
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    Optional<Integer> findLikeCountById(@Param("postId") Long postId);
+
+    // 실시간 카운터 전송용 (postId, likeCount, commentCount)
+    @Query("SELECT p.id, p.likeCount, p.commentCount FROM Post p WHERE p.id IN :postIds")
+    List<Object[]> findCountersByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 삭제 대상 (postId, blogId) - 존재하는 게시글만
+    @Query("SELECT p.id, p.blog.id FROM Post p WHERE p.id IN :postIds")
+    List<Object[]> findBlogIdsByIds(@Param("postIds") List<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id IN :postIds")
+    int deleteAllByIds(@Param("postIds") List<Long> postIds);
+
+    // 태그 색인으로 결정된 페이지의 게시글을 PK로 조회 (최신순)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :postIds ORDER BY p.id DESC")
+    List<PostSummary> findSummariesByIds(@Param("postIds") List<Long> postIds);
+
+    // 블로그 내보내기용: 한 번에 fetch-size만큼만 가져오는 전방향 스트림 (트랜잭션 안에서 사용 후 close)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.likelion.vlog.repository.PostExportRow(p.id, p.title, p.content, p.createdAt, p.updatedAt) "
+            + "FROM Post p WHERE p.blog.id = :blogId ORDER BY p.id")
+    Stream<PostExportRow> streamExportRows(@Param("blogId") Long blogId);
+
+    // 요약 백필용: 요약이 없는 게시글 id를 id 순으로 청크 조회
+    @Query("SELECT p.id FROM Post p WHERE p.excerpt IS NULL AND p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsWithoutExcerpt(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 조건부 GET용 버전 조회 (상세 / 목록 필터별)
+    @Query(VERSION_SELECT + "WHERE p.id = :postId")
+    PostVersion findVersionById(@Param("postId") Long postId);
+
+    @Query(VERSION_SELECT)
+    PostVersion findVersion();
+
+    @Query(VERSION_SELECT + "WHERE p.blog.id = :blogId")
+    PostVersion findVersionByBlogId(@Param("blogId") Long blogId);
+
+    @Query(VERSION_SELECT + "WHERE " + HAS_TAG)
+    PostVersion findVersionByTagName(@Param("tagName") String tagName);
+
+    @Query(VERSION_SELECT + "WHERE p.blog.id = :blogId AND " + HAS_TAG)
+    PostVersion findVersionByTagNameAndBlogId(@Param("tagName") String tagName, @Param("blogId") Long blogId);
+
+    // 목록 조회 (커서 페이징): cursorId보다 작은 id를 최신순으로 조회 (COUNT/OFFSET 없음)
+    @Query(SUMMARY_SELECT + "WHERE p.id < :cursorId ORDER BY p.id DESC")
+    Slice<PostSummary> findSummariesBefore(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE b.id = :blogId AND p.id < :cursorId ORDER BY p.id DESC")
+    Slice<PostSummary> findSummariesByBlogIdBefore(@Param("blogId") Long blogId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE " + HAS_TAG + " AND p.id < :cursorId ORDER BY p.id DESC")
+    Slice<PostSummary> findSummariesByTagNameBefore(@Param("tagName") String tagName, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE b.id = :blogId AND " + HAS_TAG + " AND p.id < :cursorId ORDER BY p.id DESC")
+    Slice<PostSummary> findSummariesByTagNameAndBlogIdBefore(@Param("tagName") String tagName, @Param("blogId") Long blogId, @Param("cursorId") Long cursorId, Pageable pageable);
+}
@@ -0,0 +1,21 @@
+package com.likelion.vlog.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 프로젝션
+ * - 본문(TEXT) 대신 작성 시점에 저장된 요약(excerpt)만 조회
+ * - 작성자 정보를 JOIN으로 함께 조회하여 Blog/User 지연 로딩(N+1) 방지
+ * - 좋아요/댓글 수는 비정규화 컬럼 값 (미반영 증감량은 PostCounterService에서 보정)
+ */
+public record PostSummary(
+        Long postId,
+        String title,
+        String summary,
+        Long authorId,
+        String authorNickname,
+        int likeCount,
+        int commentCount,
+        LocalDateTime createdAt
+) {
+}
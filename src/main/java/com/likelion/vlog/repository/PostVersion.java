@@ -0,0 +1,61 @@
+package com.likelion.vlog.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 판단용 버전 정보
+ * - 본문을 읽지 않고 집계 쿼리 한 번으로 조회 (상세: id 한 건, 목록: 필터 조건 전체)
+ * - count: 대상 게시글 수 (상세 조회에서 0이면 존재하지 않는 게시글, 목록에서는 삭제 감지용)
+ * - lastModified: 대상 게시글의 최대 updatedAt
+ * - likeCount / commentCount: 응답에 포함되는 카운터 합계 (수정 시각과 무관하게 바뀌므로 별도 포함)
+ */
+public record PostVersion(
+        Long count,
+        LocalDateTime lastModified,
+        Long likeCount,
+        Long commentCount
+) {
+
+    public boolean exists() {
+        return count != null && count > 0;
+    }
+
+    /**
+     * 카운터를 미반영 증감량이 더해진 값으로 교체
+     */
+    public PostVersion withCounts(long likeCount, long commentCount) {
+        return new PostVersion(count, lastModified, likeCount, commentCount);
+    }
+
+    /**
+     * 강한(strong) ETag 값 ("scope-count-수정시각(μs)-좋아요-댓글")
+     * @param scope 대상 구분 값 (상세: 게시글 id, 목록: 필터 조건)
+     */
+    public String etag(String scope) {
+        return "\"" + scope + "-" + count + "-" + lastModifiedMicros() + "-"
+                + valueOf(likeCount) + "-" + valueOf(commentCount) + "\"";
+    }
+
+    /**
+     * Last-Modified 헤더 값 (epoch millis, 대상이 없으면 -1 -> 헤더 생략)
+     */
+    public long lastModifiedMillis() {
+        if (lastModified == null) {
+            return -1;
+        }
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private long lastModifiedMicros() {
+        if (lastModified == null) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), lastModified);
+    }
+
+    private static long valueOf(Long value) {
+        return value == null ? 0 : value;
+    }
+}
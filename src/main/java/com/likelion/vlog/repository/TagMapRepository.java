@@ -2,6 +2,7 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Post;
 import com.likelion.vlog.entity.TagMap;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -13,7 +14,27 @@ public interface TagMapRepository extends JpaRepository<TagMap, Long> {
 
     List<TagMap> findAllByPost(Post post);
 
+    // 게시글의 태그 매핑을 태그와 함께 조회 (태그 변경분 계산용)
+    @Query("SELECT tm FROM TagMap tm JOIN FETCH tm.tag WHERE tm.post = :post ORDER BY tm.id")
+    List<TagMap> findAllWithTagByPost(@Param("post") Post post);
+
+    // N+1 해결: 여러 Post의 태그명을 한번에 조회 (postId, tagTitle)
+    @Query("SELECT tm.post.id, t.title FROM TagMap tm JOIN tm.tag t WHERE tm.post.id IN :postIds ORDER BY tm.id")
+    List<Object[]> findTagTitlesByPostIds(@Param("postIds") List<Long> postIds);
+
+    // 태그가 달린 게시글 id (오름차순, 태그 색인 구성 전 다중 태그 필터용)
+    @Query("SELECT DISTINCT tm.post.id FROM TagMap tm WHERE tm.tag.title = :tagTitle ORDER BY tm.post.id")
+    List<Long> findPostIdsByTagTitle(@Param("tagTitle") String tagTitle);
+
+    // 태그 색인 구성용: (tagMapId, postId, tagTitle)를 tag_map id 순으로 청크 조회
+    @Query("SELECT tm.id, tm.post.id, t.title FROM TagMap tm JOIN tm.tag t WHERE tm.id > :afterId ORDER BY tm.id")
+    List<Object[]> findIndexEntries(@Param("afterId") Long afterId, Pageable pageable);
+
     @Modifying
     @Query("DELETE FROM TagMap tm WHERE tm.post = :post")
     void deleteAllByPost(@Param("post") Post post);
+
+    @Modifying
+    @Query("DELETE FROM TagMap tm WHERE tm.post.id IN :postIds")
+    int deleteAllByPostIds(@Param("postIds") List<Long> postIds);
 }
\ No newline at end of file
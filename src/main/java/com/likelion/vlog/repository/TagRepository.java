@@ -2,10 +2,20 @@ package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
     Optional<Tag> findByTitle(String title);
+
+    // 여러 태그를 IN 조회 한 번으로 조회
+    List<Tag> findAllByTitleIn(Collection<String> titles);
+
+    // 태그 캐시(TagInterner) 구성용: (tagId, title)
+    @Query("SELECT t.id, t.title FROM Tag t")
+    List<Object[]> findAllIdAndTitle();
 }
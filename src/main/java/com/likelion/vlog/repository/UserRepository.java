@@ -1,12 +1,28 @@
 package com.likelion.vlog.repository;
 
 import com.likelion.vlog.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    Optional<User> findByEmail(String email);
+    // 탈퇴 처리된 계정은 없는 계정으로 취급 (로그인, 글 작성 등)
+    @Query("SELECT u FROM User u WHERE u.email = :email AND u.deletedAt IS NULL")
+    Optional<User> findByEmail(@Param("email") String email);
+
+    Optional<User> findByIdAndDeletedAtIsNull(Long id);
+
+    // 삭제 대기 계정 포함 (정리가 끝나기 전에는 같은 이메일로 재가입 불가)
     boolean existsByEmail(String email);
+
+    // 삭제 대기 계정 (탈퇴 요청 순)
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt IS NOT NULL ORDER BY u.deletedAt, u.id")
+    List<Long> findTombstonedIds(Pageable pageable);
+
+    long countByDeletedAtIsNotNull();
 }
@@ -0,0 +1,210 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.entity.OutboxEventType;
+import com.likelion.vlog.repository.CommentRepository;
+import com.likelion.vlog.repository.FollowRepository;
+import com.likelion.vlog.repository.LikeRepository;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 탈퇴 계정 정리 (백그라운드)
+ * - 탈퇴 처리(deleted_at)된 계정을 요청 순으로 하나씩 정리
+ * - 주기(interval-ms)마다 청크 하나만 삭제하고 각 청크는 별도 짧은 트랜잭션 -> 긴 락 없음, 주기 자체가 속도 제한
+ * - 단계: 게시글(댓글/좋아요/태그 포함) -> 작성한 댓글 -> 누른 좋아요 -> 팔로우 관계 -> 계정(블로그 포함)
+ * - 진행 상태를 따로 저장하지 않고 남은 데이터로 단계를 판단 -> 재시작해도 남은 곳부터 이어서 진행
+ * - 댓글/좋아요 삭제는 다른 경로와 같은 부수 효과를 냄: 청크 트랜잭션에 COMMENT_DELETED / LIKE_REMOVED 아웃박스 이벤트
+ *   (인기 순위, 좋아요 색인), 커밋 후 게시글별 카운터 감소 + 실시간 카운터 전송, 계정 삭제 시 좋아요 색인의 사용자 항목 제거
+ * - 진행 상황: 청크마다 로그, vlog.account.purge.pending(대기 계정 수) / vlog.account.purge.deleted(단계별 삭제 건수)
+ */
+@Slf4j
+@Component
+public class AccountPurger {
+
+    public enum Step {
+        POSTS, COMMENTS, LIKES, FOLLOWS, ACCOUNT
+    }
+
+    private final UserRepository userRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    private final FollowRepository followRepository;
+    private final PostService postService;
+    private final PostCounterService postCounterService;
+    private final PostLiveHub postLiveHub;
+    private final PostLikeIndex postLikeIndex;
+    private final OutboxPublisher outboxPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    public AccountPurger(UserRepository userRepository,
+                         PostRepository postRepository,
+                         CommentRepository commentRepository,
+                         LikeRepository likeRepository,
+                         FollowRepository followRepository,
+                         PostService postService,
+                         PostCounterService postCounterService,
+                         PostLiveHub postLiveHub,
+                         PostLikeIndex postLikeIndex,
+                         OutboxPublisher outboxPublisher,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${vlog.account.purge.chunk-size:200}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+        this.followRepository = followRepository;
+        this.postService = postService;
+        this.postCounterService = postCounterService;
+        this.postLiveHub = postLiveHub;
+        this.postLikeIndex = postLikeIndex;
+        this.outboxPublisher = outboxPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = chunkSize;
+
+        Gauge.builder("vlog.account.purge.pending", pending, AtomicLong::get)
+                .description("정리 대기 중인 탈퇴 계정 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가장 먼저 탈퇴한 계정의 청크 하나 정리
+     * - 실패하면 다음 주기에 같은 청크부터 재시도
+     */
+    @Scheduled(fixedDelayString = "${vlog.account.purge.interval-ms:1000}")
+    public void purgeNextChunk() {
+        try {
+            List<Long> userIds = userRepository.findTombstonedIds(PageRequest.of(0, 1));
+            if (userIds.isEmpty()) {
+                pending.set(0);
+                return;
+            }
+            pending.set(userRepository.countByDeletedAtIsNotNull());
+            purgeChunk(userIds.get(0));
+        } catch (DataAccessException e) {
+            log.warn("탈퇴 계정 정리 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 계정에 남은 첫 단계에서 청크 하나 삭제 (남은 데이터가 없으면 계정 삭제)
+     * @return 처리한 단계
+     */
+    public Step purgeChunk(Long userId) {
+        int deleted = deletePosts(userId);
+        if (deleted > 0) {
+            return report(userId, Step.POSTS, deleted);
+        }
+        deleted = deleteComments(userId);
+        if (deleted > 0) {
+            return report(userId, Step.COMMENTS, deleted);
+        }
+        deleted = deleteLikes(userId);
+        if (deleted > 0) {
+            return report(userId, Step.LIKES, deleted);
+        }
+        deleted = deleteFollows(userId);
+        if (deleted > 0) {
+            return report(userId, Step.FOLLOWS, deleted);
+        }
+
+        // 블로그는 User의 cascade로 함께 삭제
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(userId).ifPresent(userRepository::delete));
+        postLikeIndex.removeUser(userId);
+        log.info("탈퇴 계정 정리 완료: userId={}", userId);
+        return report(userId, Step.ACCOUNT, 1);
+    }
+
+    // 게시글 삭제는 PostService.deletePosts 재사용 (댓글/좋아요/태그 매핑 포함, 청크마다 트랜잭션)
+    private int deletePosts(Long userId) {
+        List<Long> postIds = postRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        postService.deletePosts(postIds);
+        return postIds.size();
+    }
+
+    // 다른 게시글에 남긴 댓글 (달린 대댓글은 연결만 해제하고 남김)
+    private int deleteComments(Long userId) {
+        List<Object[]> rows = commentRepository.findIdAndPostIdByUserId(userId, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> commentIds = rows.stream().map(row -> (Long) row[0]).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            commentRepository.detachRepliesByParentIds(commentIds);
+            commentRepository.deleteAllByIdInBatch(commentIds);
+            rows.forEach(row -> outboxPublisher.append(OutboxEventType.COMMENT_DELETED, (Long) row[1],
+                    Map.of("postId", row[1], "commentId", row[0])));
+        });
+        rows.forEach(row -> postCounterService.commentRemoved((Long) row[1]));
+        countersChanged(rows);
+        return rows.size();
+    }
+
+    private int deleteLikes(Long userId) {
+        List<Object[]> rows = likeRepository.findIdAndPostIdByUserId(userId, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Long> likeIds = rows.stream().map(row -> (Long) row[0]).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            likeRepository.deleteAllByIdInBatch(likeIds);
+            rows.forEach(row -> outboxPublisher.append(OutboxEventType.LIKE_REMOVED, (Long) row[1],
+                    Map.of("postId", row[1], "userId", userId)));
+        });
+        rows.forEach(row -> postCounterService.likeRemoved((Long) row[1]));
+        countersChanged(rows);
+        return rows.size();
+    }
+
+    // 청크에서 영향받은 게시글마다 실시간 카운터 전송 한 번 (rows: (id, postId))
+    private void countersChanged(List<Object[]> rows) {
+        Set<Long> postIds = new LinkedHashSet<>();
+        rows.forEach(row -> postIds.add((Long) row[1]));
+        postIds.forEach(postLiveHub::countersChanged);
+    }
+
+    private int deleteFollows(Long userId) {
+        List<Long> followIds = followRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+        if (followIds.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> followRepository.deleteAllByIdInBatch(followIds));
+        return followIds.size();
+    }
+
+    private Step report(Long userId, Step step, int deleted) {
+        meterRegistry.counter("vlog.account.purge.deleted", "step", step.name().toLowerCase(Locale.ROOT))
+                .increment(deleted);
+        if (step != Step.ACCOUNT) {
+            log.info("탈퇴 계정 정리 진행: userId={}, {} {}건 삭제", userId, step, deleted);
+        }
+        return step;
+    }
+}
@@ -0,0 +1,64 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.entity.Comment;
+import com.likelion.vlog.entity.OutboxEventType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PreRemove;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 댓글 저장/삭제 JPA 엔티티 리스너
+ * - 댓글을 어떤 경로로 저장하든 반영되도록 엔티티 생명주기에 연결
+ *   - 게시글 댓글 수 증감 (PostCounterService)
+ *   - 게시글 실시간 이벤트(SSE) 발행 (PostLiveHub)
+ *   - COMMENT_CREATED / COMMENT_DELETED 아웃박스 이벤트 기록 (인기 순위 등은 OutboxRelay 리스너가 반영)
+ * - 실제 반영은 각 컴포넌트에서 트랜잭션 커밋 후
+ * - 삭제 이벤트는 remove() 시점(@PreRemove)에 기록 (DELETE가 커밋 직전 flush에서 실행되어도 이벤트가 빠지지 않도록)
+ * - JPQL 일괄 삭제(게시글 삭제, 계정 정리)는 리스너를 거치지 않으므로 호출하는 쪽에서 처리
+ * - Hibernate가 EntityManagerFactory 생성 중에 리스너를 만들므로 의존 컴포넌트는 ObjectProvider로 지연 조회
+ */
+@Component
+public class CommentEntityListener {
+
+    private final ObjectProvider<PostCounterService> postCounterService;
+    private final ObjectProvider<PostLiveHub> postLiveHub;
+    private final ObjectProvider<OutboxPublisher> outboxPublisher;
+
+    public CommentEntityListener(ObjectProvider<PostCounterService> postCounterService,
+                                 ObjectProvider<PostLiveHub> postLiveHub,
+                                 ObjectProvider<OutboxPublisher> outboxPublisher) {
+        this.postCounterService = postCounterService;
+        this.postLiveHub = postLiveHub;
+        this.outboxPublisher = outboxPublisher;
+    }
+
+    @PostPersist
+    public void onPersist(Comment comment) {
+        Long postId = comment.getPost().getId();
+        postCounterService.ifAvailable(counter -> counter.commentAdded(postId));
+        postLiveHub.ifAvailable(hub -> hub.commentAdded(comment));
+        append(OutboxEventType.COMMENT_CREATED, comment);
+    }
+
+    @PreRemove
+    public void onRemoving(Comment comment) {
+        append(OutboxEventType.COMMENT_DELETED, comment);
+    }
+
+    @PostRemove
+    public void onRemove(Comment comment) {
+        Long postId = comment.getPost().getId();
+        postCounterService.ifAvailable(counter -> counter.commentRemoved(postId));
+        postLiveHub.ifAvailable(hub -> hub.countersChanged(postId));
+    }
+
+    private void append(OutboxEventType eventType, Comment comment) {
+        Long postId = comment.getPost().getId();
+        outboxPublisher.ifAvailable(publisher ->
+                publisher.append(eventType, postId, Map.of("postId", postId, "commentId", comment.getId())));
+    }
+}
@@ -0,0 +1,157 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.common.Cursor;
+import com.likelion.vlog.dto.response.CommentResponse;
+import com.likelion.vlog.dto.response.CommentThreadResponse;
+import com.likelion.vlog.dto.response.CursorPageResponse;
+import com.likelion.vlog.entity.Comment;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.CommentRepository;
+import com.likelion.vlog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 비즈니스 로직
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentService {
+
+    public static final int DEFAULT_MAX_DEPTH = 5;
+    public static final int MAX_DEPTH_LIMIT = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_REPLY_PREVIEW_SIZE = 20;
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+
+    /**
+     * 게시글의 댓글 트리 조회
+     * - 댓글 + 작성자를 쿼리 한 번으로 조회 후 id -> 노드 맵으로 메모리에서 조립 (O(n), 지연 로딩 없음)
+     * - maxDepth보다 깊은 대댓글은 maxDepth 단계 조상의 replies에 평탄화하여 붙임 (id 순)
+     *   (최상위 댓글 = 0단계, 응답의 중첩 깊이는 maxDepth + 1을 넘지 않음)
+     * - 부모가 삭제되어 연결이 끊긴 댓글은 최상위 댓글로 취급
+     */
+    public List<CommentResponse> getCommentTree(Long postId, int maxDepth) {
+        if (maxDepth < 0 || maxDepth > MAX_DEPTH_LIMIT) {
+            throw new IllegalArgumentException("maxDepth는 0 ~ " + MAX_DEPTH_LIMIT + " 사이여야 합니다.");
+        }
+        if (!postRepository.existsById(postId)) {
+            throw NotFoundException.post(postId);
+        }
+
+        List<Comment> comments = commentRepository.findAllWithUserByPostId(postId);
+        int size = comments.size();
+        Map<Long, Integer> depths = new HashMap<>(size * 2);
+        // 대댓글을 붙일 노드 (maxDepth 이하면 자기 자신, 더 깊으면 maxDepth 단계 조상)
+        Map<Long, CommentResponse> anchors = new HashMap<>(size * 2);
+        List<CommentResponse> roots = new ArrayList<>();
+
+        for (Comment comment : comments) {
+            CommentResponse node = CommentResponse.from(comment);
+            CommentResponse parent = comment.getParentId() == null ? null : anchors.get(comment.getParentId());
+            if (parent == null) {
+                roots.add(node);
+                depths.put(comment.getId(), 0);
+                anchors.put(comment.getId(), node);
+            } else {
+                parent.getReplies().add(node);
+                int depth = depths.get(comment.getParentId()) + 1;
+                depths.put(comment.getId(), depth);
+                anchors.put(comment.getId(), depth <= maxDepth ? node : parent);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 게시글 댓글 목록 조회 (최상위 댓글 커서 페이징, 작성순)
+     * - 최상위 댓글 size개를 (createdAt, id) keyset으로 조회 -> 인덱스 범위 스캔, 페이지 깊이와 무관하게 일정
+     * - 각 댓글의 앞쪽 대댓글 replySize개 / 대댓글 수는 페이지 단위로 한 번씩 조회 (N+1 없음)
+     */
+    public CursorPageResponse<CommentThreadResponse> getComments(Long postId, String cursor, int size, int replySize) {
+        if (!postRepository.existsById(postId)) {
+            throw NotFoundException.post(postId);
+        }
+        Cursor.Keyset keyset = Cursor.decodeKeyset(cursor);
+        Pageable pageable = PageRequest.of(0, clamp(size, 1, MAX_PAGE_SIZE));
+        Slice<Comment> roots = keyset == null
+                ? commentRepository.findRootsByPostId(postId, pageable)
+                : commentRepository.findRootsByPostIdAfter(postId, keyset.createdAt(), keyset.id(), pageable);
+
+        List<Long> rootIds = roots.getContent().stream().map(Comment::getId).toList();
+        Map<Long, Long> replyCounts = countReplies(rootIds);
+        Map<Long, List<Comment>> replies = findFirstReplies(rootIds, clamp(replySize, 0, MAX_REPLY_PREVIEW_SIZE));
+
+        List<CommentThreadResponse> content = roots.getContent().stream()
+                .map(root -> CommentThreadResponse.of(root,
+                        replies.getOrDefault(root.getId(), List.of()),
+                        replyCounts.getOrDefault(root.getId(), 0L)))
+                .toList();
+        return CursorPageResponse.of(roots, content, nextCursor(roots));
+    }
+
+    /**
+     * 대댓글 목록 조회 (커서 페이징, 작성순)
+     * - 댓글 목록 응답의 nextReplyCursor를 cursor로 전달하면 미리보기 이후부터 조회
+     */
+    public CursorPageResponse<CommentResponse> getReplies(Long commentId, String cursor, int size) {
+        if (!commentRepository.existsById(commentId)) {
+            throw NotFoundException.comment(commentId);
+        }
+        Cursor.Keyset keyset = Cursor.decodeKeyset(cursor);
+        Pageable pageable = PageRequest.of(0, clamp(size, 1, MAX_PAGE_SIZE));
+        Slice<Comment> replies = keyset == null
+                ? commentRepository.findRepliesByParentId(commentId, pageable)
+                : commentRepository.findRepliesByParentIdAfter(commentId, keyset.createdAt(), keyset.id(), pageable);
+
+        List<CommentResponse> content = replies.getContent().stream().map(CommentResponse::from).toList();
+        return CursorPageResponse.of(replies, content, nextCursor(replies));
+    }
+
+    private Map<Long, Long> countReplies(List<Long> parentIds) {
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.countRepliesByParentIds(parentIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+
+    // 부모별 앞쪽 대댓글 limit개 (id 조회 후 작성자와 함께 한 번에 로딩)
+    private Map<Long, List<Comment>> findFirstReplies(List<Long> parentIds, int limit) {
+        if (parentIds.isEmpty() || limit == 0) {
+            return Map.of();
+        }
+        List<Long> replyIds = commentRepository.findFirstReplyIdsByParentIds(parentIds, limit);
+        if (replyIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentRepository.findAllWithUserByIdIn(replyIds).stream()
+                .collect(Collectors.groupingBy(Comment::getParentId));
+    }
+
+    private String nextCursor(Slice<Comment> slice) {
+        List<Comment> content = slice.getContent();
+        if (content.isEmpty()) {
+            return null;
+        }
+        Comment last = content.get(content.size() - 1);
+        return Cursor.encode(last.getCreatedAt(), last.getId());
+    }
+
+    private int clamp(int value, int min, int max) {
+        return Math.min(Math.max(value, min), max);
+    }
+}
@@ -0,0 +1,119 @@
+package com.likelion.vlog.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * id별 증감량을 메모리에 누적하는 쓰기 지연(write-behind) 카운터 버퍼
+ * - 쓰기 경로는 id별 LongAdder에 락 없이 누적 (인기 게시글에 요청이 몰려도 경합 분산)
+ * - snapshot()은 누적값을 카운터에서 빼서 "반영 중" 맵으로 한 번에 옮김 (pending = 누적 + 반영 중)
+ *   -> 같은 증감이 두 곳에 동시에 보이지 않음, 반영 중에 들어온 증감은 다음 flush로 이월
+ * - DB 커밋 직후 commit()으로 반영 중 맵을 비움 (저장된 값과 pending에 중복으로 더해지는 구간 최소화)
+ * - DB 반영이 실패하면 commit()을 호출하지 않으며, 다음 snapshot()이 반영 중 증감을 다시 누적하여 재시도
+ * - 스레드 안전 (snapshot/commit은 한 번에 하나의 flush 스레드에서만 호출)
+ */
+public class CounterBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    private final LongAdder pendingUpdates = new LongAdder();
+    private long snapshotUpdates;
+
+    // DB에 반영 중인 스냅샷 - 카운터와 함께 swapLock으로 교체하여 pending()이 중간 상태를 보지 않도록 함
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Map<Long, Long> inFlight = Map.of();
+
+    // 직전 flush에서 0이었던 카운터를 제거한 것들
+    // - 제거 직전에 참조를 얻은 쓰기가 늦게 더해질 수 있으므로 한 주기 더 보관 후 폐기
+    private List<Map.Entry<Long, LongAdder>> retired = new ArrayList<>();
+
+    public void add(long id, long delta) {
+        counters.computeIfAbsent(id, key -> new LongAdder()).add(delta);
+        pendingUpdates.increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감량 (반영 중인 증감 포함)
+     */
+    public long pending(long id) {
+        swapLock.readLock().lock();
+        try {
+            LongAdder counter = counters.get(id);
+            long value = counter == null ? 0L : counter.sum();
+            return value + inFlight.getOrDefault(id, 0L);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 마지막 flush 이후 누적된 증감 요청 수 (flush 임계치 판단용)
+     */
+    public long pendingUpdates() {
+        return pendingUpdates.sum();
+    }
+
+    /**
+     * DB에 반영할 id별 증감량 스냅샷 (0인 항목 제외)
+     * - 스냅샷만큼 카운터에서 빼서 반영 중 맵으로 옮김
+     * - 0인 카운터는 이 시점에 맵에서 제거하여 메모리 회수
+     */
+    public Map<Long, Long> snapshot() {
+        swapLock.writeLock().lock();
+        try {
+            return swap();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB 반영(커밋)이 끝난 스냅샷 제거
+     */
+    public void commit() {
+        swapLock.writeLock().lock();
+        try {
+            inFlight = Map.of();
+            pendingUpdates.add(-snapshotUpdates);
+            snapshotUpdates = 0;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, Long> swap() {
+        Map<Long, Long> deltas = new HashMap<>();
+        snapshotUpdates = pendingUpdates.sum();
+
+        // 지난 flush가 실패하여 남은 반영 중 증감을 다시 누적
+        inFlight.forEach((id, value) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(value));
+        inFlight = Map.of();
+
+        // 지난 주기에 제거된 카운터에 늦게 더해진 값 회수
+        List<Map.Entry<Long, LongAdder>> lateWrites = retired;
+        retired = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : lateWrites) {
+            long value = entry.getValue().sum();
+            if (value != 0) {
+                counters.computeIfAbsent(entry.getKey(), key -> new LongAdder()).add(value);
+                entry.getValue().add(-value);
+            }
+        }
+
+        counters.forEach((id, counter) -> {
+            long value = counter.sum();
+            if (value != 0) {
+                counter.add(-value);
+                deltas.put(id, value);
+            } else if (counters.remove(id, counter)) {
+                retired.add(Map.entry(id, counter));
+            }
+        });
+        inFlight = Map.copyOf(deltas);
+        return deltas;
+    }
+}
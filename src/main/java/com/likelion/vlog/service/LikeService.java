@@ -0,0 +1,111 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.response.LikeResponse;
+import com.likelion.vlog.entity.OutboxEventType;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.LikeRepository;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 좋아요
+ * - 존재 확인 후 추가/삭제(check-then-act) 대신 조건부 INSERT / DELETE 한 번으로 처리
+ *   (likes (user_id, post_id) 유니크 제약 -> 동시에 여러 번 눌러도 좋아요는 하나)
+ * - 같은 요청 반복은 추가/삭제된 행이 없으므로 카운터/이벤트 없이 현재 상태만 반환 (멱등)
+ * - 좋아요 수는 COUNT 쿼리 없이 PostCounterService 카운터로 증감 (실제 변경이 있을 때만, 커밋 후 반영)
+ *   -> 응답의 좋아요 수는 커밋 전 카운터 값에 이번 변경을 더해서 반환
+ * - 좋아요 여부 일괄 확인은 메모리 색인(PostLikeIndex) 사용, 색인 구성 전에는 쿼리 한 번
+ * - 좋아요 색인/인기 순위는 LIKE_ADDED / LIKE_REMOVED 아웃박스 이벤트로 갱신 (카운터와 실시간 전달은 요청에서 바로)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LikeService {
+
+    public static final int MAX_CHECK_POST_IDS = 100;
+
+    private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostCounterService postCounterService;
+    private final PostLiveHub postLiveHub;
+    private final PostLikeIndex postLikeIndex;
+    private final OutboxPublisher outboxPublisher;
+
+    /**
+     * 좋아요 (이미 좋아요 상태면 변경 없음)
+     */
+    public LikeResponse like(Long postId, String email) {
+        Long userId = findUserId(email);
+        int likeCount = postCounterService.likeCount(postId, findLikeCount(postId));
+
+        if (likeRepository.insertIfAbsent(userId, postId, LocalDateTime.now())) {
+            postCounterService.likeAdded(postId);
+            postLiveHub.countersChanged(postId);
+            outboxPublisher.append(OutboxEventType.LIKE_ADDED, postId, likePayload(userId, postId));
+            likeCount++;
+        }
+        return LikeResponse.of(postId, true, likeCount);
+    }
+
+    /**
+     * 좋아요 취소 (좋아요 상태가 아니면 변경 없음)
+     */
+    public LikeResponse unlike(Long postId, String email) {
+        Long userId = findUserId(email);
+        int likeCount = postCounterService.likeCount(postId, findLikeCount(postId));
+
+        if (likeRepository.deleteByUserIdAndPostId(userId, postId) == 1) {
+            postCounterService.likeRemoved(postId);
+            postLiveHub.countersChanged(postId);
+            outboxPublisher.append(OutboxEventType.LIKE_REMOVED, postId, likePayload(userId, postId));
+            likeCount--;
+        }
+        return LikeResponse.of(postId, false, likeCount);
+    }
+
+    /**
+     * postIds 중 사용자가 좋아요 한 게시글 id (오름차순)
+     * - 목록 한 페이지 단위 확인용 (최대 MAX_CHECK_POST_IDS개)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getLikedPostIds(String email, List<Long> postIds) {
+        if (postIds.size() > MAX_CHECK_POST_IDS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_CHECK_POST_IDS + "개까지 확인할 수 있습니다.");
+        }
+        Long userId = findUserId(email);
+        long[] sorted = postIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        if (sorted.length == 0) {
+            return List.of();
+        }
+        if (postLikeIndex.ready()) {
+            return Arrays.stream(postLikeIndex.likedPostIds(userId, sorted)).boxed().toList();
+        }
+        return likeRepository.findLikedPostIds(userId, Arrays.stream(sorted).boxed().toList()).stream()
+                .sorted()
+                .toList();
+    }
+
+    private Map<String, Object> likePayload(Long userId, Long postId) {
+        return Map.of("postId", postId, "userId", userId);
+    }
+
+    private Long findUserId(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> NotFoundException.user(email))
+                .getId();
+    }
+
+    private int findLikeCount(Long postId) {
+        return postRepository.findLikeCountById(postId)
+                .orElseThrow(() -> NotFoundException.post(postId));
+    }
+}
@@ -0,0 +1,23 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.likelion.vlog.entity.OutboxEvent;
+import com.likelion.vlog.entity.OutboxEventType;
+
+/**
+ * 아웃박스 이벤트 수신 (캐시/검색/피드 등 파생 데이터 갱신용)
+ * - 빈으로 등록하면 OutboxRelay가 커밋된 이벤트를 전달 (payload는 릴레이가 한 번 파싱해서 넘김)
+ * - 구현체: PostDetailCache(상세 캐시 무효화), PostTagIndex(태그 색인), PostLikeIndex(좋아요 색인),
+ *   TrendingRanking(인기 순위) -> 요청 트랜잭션에서는 이벤트만 기록하고 파생 데이터는 릴레이 주기만큼 늦게 반영
+ * - 같은 이벤트가 두 번 이상 올 수 있으므로 멱등하게 처리해야 함 (at-least-once)
+ * - 같은 집합체(aggregateId)의 이벤트는 발생 순서대로 한 번에 하나씩 전달
+ * - 예외를 던지면 해당 집합체의 이후 이벤트는 보류되고 다음 주기에 재시도
+ */
+public interface OutboxEventListener {
+
+    default boolean supports(OutboxEventType eventType) {
+        return true;
+    }
+
+    void onEvent(OutboxEvent event, JsonNode payload);
+}
@@ -0,0 +1,81 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.entity.OutboxEventType;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 기록
+ * - 반드시 도메인 변경 트랜잭션 안에서 호출 (MANDATORY, 트랜잭션이 없으면 예외)
+ * - append는 트랜잭션에 모아 두기만 하고, 커밋 직전(beforeCommit)에 한 번 flush 후 한 번의 batch INSERT로 기록
+ *   -> 이벤트마다 flush하지 않으므로 일괄 삭제/가져오기의 태그 매핑 JDBC batch가 깨지지 않음
+ * - flush로 집합체 행 락을 모두 잡은 뒤 커밋 직전에 INSERT
+ *   -> 같은 게시글의 동시 수정은 락 순서대로 이벤트 id(AUTO_INCREMENT)가 매겨져 id 순 = 커밋 순
+ * - 롤백되면 모아 둔 이벤트도 버려짐
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events " +
+            "(aggregate_type, aggregate_id, event_type, payload, occurred_at, attempts) VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Long aggregateId, Object payload) {
+        pendingEvents().add(new Object[]{
+                eventType.aggregateType(),
+                aggregateId,
+                eventType.name(),
+                toJson(payload),
+                Timestamp.valueOf(LocalDateTime.now())});
+    }
+
+    // 현재 트랜잭션에 모아 둔 이벤트 (처음 호출될 때 커밋 직전 기록을 등록, 중단된 바깥 트랜잭션과는 분리)
+    private List<Object[]> pendingEvents() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEvents pending) {
+                return pending.events;
+            }
+        }
+        PendingEvents pending = new PendingEvents();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending.events;
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private class PendingEvents implements TransactionSynchronization {
+
+        private final List<Object[]> events = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // flush 중 엔티티 리스너가 이벤트를 더할 수 있으므로 flush 후에 기록
+            entityManager.flush();
+            jdbcTemplate.batchUpdate(INSERT_SQL, events);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.entity.OutboxEvent;
+import com.likelion.vlog.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이 (폴링 -> 리스너 전달)
+ * - poll-interval-ms마다 전달 대기 이벤트를 batch-size개씩 id 순으로 읽어 전달, 가득 찬 배치면 바로 다음 배치
+ * - 배치를 집합체(aggregateType + aggregateId)별로 묶어 고정 크기 실행기에 하나의 작업으로 제출
+ *   -> 집합체 안에서는 id 순으로 순차 전달, 서로 다른 집합체는 병렬
+ * - 실행기 큐가 가득 차면 폴링 스레드가 직접 실행 (CallerRunsPolicy, 큐가 무한히 늘지 않음)
+ * - 배치의 작업이 모두 끝난 뒤 성공한 이벤트만 published_at 기록 (기록 전에 종료되면 재전달 = at-least-once)
+ * - 리스너가 실패하면 해당 집합체의 나머지 이벤트는 보류, max-attempts회 실패한 이벤트는 더 이상 읽지 않음 (로그로 확인)
+ * - 한 인스턴스에서만 폴링한다고 가정 (여러 인스턴스면 같은 이벤트가 중복 전달될 수 있음)
+ * - 리스너: OutboxEventListener 빈 (상세 캐시 / 태그 색인 / 좋아요 색인 / 인기 순위)
+ * - 배치 완료를 기다리는 동안 스케줄러 스레드 하나를 점유 (spring.task.scheduling.pool.size로 다른 주기 작업과 분리)
+ * - 지표: vlog.outbox.backlog(대기 건수), vlog.outbox.lag(가장 오래된 대기 이벤트의 경과 초),
+ *   vlog.outbox.dispatched / vlog.outbox.failures
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventListener> listeners;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final Counter dispatched;
+    private final Counter failures;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ObjectProvider<OutboxEventListener> listeners,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${vlog.outbox.batch-size:200}") int batchSize,
+                       @Value("${vlog.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${vlog.outbox.retention:1d}") Duration retention,
+                       @Value("${vlog.outbox.dispatch-threads:4}") int dispatchThreads,
+                       @Value("${vlog.outbox.dispatch-queue-capacity:100}") int queueCapacity) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.listeners = listeners.orderedStream().toList();
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-dispatch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("vlog.outbox.backlog", backlog, AtomicLong::get)
+                .description("전달 대기 중인 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("vlog.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 전달 대기 이벤트의 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.dispatched = Counter.builder("vlog.outbox.dispatched").register(meterRegistry);
+        this.failures = Counter.builder("vlog.outbox.failures").register(meterRegistry);
+    }
+
+    /**
+     * 전달 대기 이벤트 처리 (배치가 가득 차 있고 실패가 없으면 이어서 다음 배치)
+     * - 실패가 있으면 다음 주기까지 대기 (실패 이벤트를 바로 반복 재시도하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${vlog.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            while (relayBatch()) {
+                // 남은 이벤트가 있을 수 있으므로 다음 배치 계속
+            }
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 전달 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * 한 배치 전달
+     * @return 바로 이어서 다음 배치를 처리할지 여부
+     */
+    boolean relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.findUnpublished(maxAttempts, PageRequest.of(0, batchSize));
+        updateMetrics(events);
+        if (events.isEmpty()) {
+            return false;
+        }
+
+        Map<String, List<OutboxEvent>> lanes = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            lanes.computeIfAbsent(event.getAggregateType() + ":" + event.getAggregateId(), key -> new ArrayList<>())
+                    .add(event);
+        }
+
+        ConcurrentLinkedQueue<Long> succeeded = new ConcurrentLinkedQueue<>();
+        ConcurrentLinkedQueue<Long> failed = new ConcurrentLinkedQueue<>();
+        CompletableFuture<?>[] tasks = lanes.values().stream()
+                .map(lane -> CompletableFuture.runAsync(() -> dispatchLane(lane, succeeded, failed), executor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(tasks).join();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!succeeded.isEmpty()) {
+                outboxEventRepository.markPublished(List.copyOf(succeeded), LocalDateTime.now());
+            }
+            if (!failed.isEmpty()) {
+                outboxEventRepository.increaseAttempts(List.copyOf(failed));
+            }
+        });
+        dispatched.increment(succeeded.size());
+        failures.increment(failed.size());
+        return events.size() == batchSize && failed.isEmpty();
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 삭제
+     */
+    @Scheduled(fixedDelayString = "${vlog.outbox.cleanup-interval-ms:600000}")
+    public void cleanUp() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.debug("아웃박스 정리: {}건", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 집합체 하나의 이벤트를 순서대로 전달, 실패하면 이후 이벤트는 보류
+    private void dispatchLane(List<OutboxEvent> lane, ConcurrentLinkedQueue<Long> succeeded,
+                              ConcurrentLinkedQueue<Long> failed) {
+        for (OutboxEvent event : lane) {
+            try {
+                JsonNode payload = readPayload(event);
+                for (OutboxEventListener listener : listeners) {
+                    if (listener.supports(event.getEventType())) {
+                        listener.onEvent(event, payload);
+                    }
+                }
+                succeeded.add(event.getId());
+            } catch (RuntimeException e) {
+                failed.add(event.getId());
+                if (event.getAttempts() + 1 >= maxAttempts) {
+                    log.error("아웃박스 이벤트 전달 포기: id={}, type={}, aggregateId={}",
+                            event.getId(), event.getEventType(), event.getAggregateId(), e);
+                } else {
+                    log.warn("아웃박스 이벤트 전달 실패: id={}, type={}", event.getId(), event.getEventType(), e);
+                }
+                return;
+            }
+        }
+    }
+
+    private JsonNode readPayload(OutboxEvent event) {
+        try {
+            return objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 payload를 읽을 수 없습니다: id=" + event.getId(), e);
+        }
+    }
+
+    private void updateMetrics(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            backlog.set(0);
+            lagSeconds.set(0);
+            return;
+        }
+        backlog.set(events.size() < batchSize ? events.size() : outboxEventRepository.countUnpublished(maxAttempts));
+        lagSeconds.set(Math.max(0, Duration.between(events.get(0).getOccurredAt(), LocalDateTime.now()).toSeconds()));
+    }
+}
@@ -0,0 +1,118 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.common.TagFilter;
+import com.likelion.vlog.dto.request.PostBulkDeleteRequest;
+import com.likelion.vlog.dto.response.PostBulkDeleteResponse;
+import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.exception.ForbiddenException;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.BlogRepository;
+import com.likelion.vlog.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 일괄 삭제
+ * - 대상: postIds 목록 또는 blogId + 태그 필터
+ * - 권한 확인은 쿼리 한 번 (목록: 게시글별 작성자 이메일 일괄 조회, 블로그: 블로그 주인 확인)
+ * - 삭제는 chunk-size개씩 PostService.deletePosts 호출 -> 청크마다 짧은 트랜잭션 (긴 락 방지)
+ * - 청크 삭제가 실패하면 해당 청크만 실패로 집계하고 다음 청크 계속 (이미 삭제된 청크는 유지)
+ */
+@Slf4j
+@Service
+public class PostBulkDeleteService {
+
+    public static final int MAX_POST_IDS = 1000;
+
+    private final PostService postService;
+    private final PostRepository postRepository;
+    private final BlogRepository blogRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+
+    public PostBulkDeleteService(PostService postService,
+                                 PostRepository postRepository,
+                                 BlogRepository blogRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${vlog.post.bulk-delete.chunk-size:200}") int chunkSize) {
+        this.postService = postService;
+        this.postRepository = postRepository;
+        this.blogRepository = blogRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    public PostBulkDeleteResponse deletePosts(PostBulkDeleteRequest request, String email) {
+        boolean byIds = request.getPostIds() != null && !request.getPostIds().isEmpty();
+        if (byIds == (request.getBlogId() != null)) {
+            throw new IllegalArgumentException("postIds 또는 blogId 중 하나만 지정해야 합니다.");
+        }
+
+        List<Long> postIds = byIds
+                ? checkOwnedPosts(request.getPostIds(), email)
+                : findOwnedBlogPosts(request.getBlogId(), TagFilter.of(request.getTags(), request.getMode()), email);
+
+        long deleted = 0;
+        long failed = 0;
+        for (int from = 0; from < postIds.size(); from += chunkSize) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + chunkSize, postIds.size()));
+            try {
+                deleted += postService.deletePosts(chunk);
+            } catch (DataAccessException e) {
+                log.warn("게시글 일괄 삭제 청크 실패: {}건 ({} ~ {})", chunk.size(), chunk.get(0), chunk.get(chunk.size() - 1), e);
+                failed += chunk.size();
+            }
+        }
+
+        log.info("게시글 일괄 삭제 완료: 대상 {}건, 삭제 {}건, 실패 {}건", postIds.size(), deleted, failed);
+        return PostBulkDeleteResponse.of(postIds.size(), deleted, failed);
+    }
+
+    // 요청한 게시글이 모두 존재하고 본인 글인지 한 번에 확인
+    private List<Long> checkOwnedPosts(List<Long> requestedIds, String email) {
+        Set<Long> distinct = new LinkedHashSet<>(requestedIds);
+        distinct.remove(null);
+        if (distinct.size() > MAX_POST_IDS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_POST_IDS + "개까지 삭제할 수 있습니다.");
+        }
+
+        Map<Long, String> ownerById = new HashMap<>();
+        for (Object[] row : postRepository.findOwnerEmailsByIds(distinct)) {
+            ownerById.put((Long) row[0], (String) row[1]);
+        }
+        for (Long postId : distinct) {
+            String owner = ownerById.get(postId);
+            if (owner == null) {
+                throw NotFoundException.post(postId);
+            }
+            if (!owner.equals(email)) {
+                throw ForbiddenException.postDelete();
+            }
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    private List<Long> findOwnedBlogPosts(Long blogId, TagFilter tagFilter, String email) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Blog blog = blogRepository.findById(blogId)
+                    .orElseThrow(() -> NotFoundException.blogById(blogId));
+            if (!blog.getUser().getEmail().equals(email)) {
+                throw ForbiddenException.postDelete();
+            }
+        });
+        return Arrays.stream(postService.findPostIds(tagFilter, blogId)).boxed().toList();
+    }
+}
@@ -0,0 +1,154 @@
+package com.likelion.vlog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 좋아요/댓글 수 집계 (비정규화 카운터)
+ * - 읽을 때마다 COUNT(*) 하지 않고 posts.like_count / comment_count 컬럼을 사용
+ * - 증감은 메모리 버퍼(CounterBuffer)에 누적 후 주기적으로 일괄 반영 (write-behind)
+ *   트랜잭션 안에서 호출되면 커밋 후에 누적 (롤백된 좋아요/댓글이 카운터에 남지 않도록)
+ *   UPDATE posts SET like_count = like_count + ? ... 를 JDBC batch로 실행
+ * - flush 조건: 마지막 flush 후 flush-interval-ms 경과 또는 누적 요청 수가 flush-threshold 이상
+ * - 조회 시 아직 반영되지 않은 증감량을 더해서 반환 (flush 전후로 값이 되돌아가지 않음)
+ *   flush 중인 증감은 버퍼에서 한 번만 더해지고 DB 커밋 직후 버퍼에서 빠짐 (저장된 값과 중복 집계 방지)
+ */
+@Slf4j
+@Service
+public class PostCounterService {
+
+    private static final String FLUSH_SQL =
+            "UPDATE posts SET like_count = like_count + ?, comment_count = comment_count + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+    private final long flushIntervalMillis;
+    private final long flushThreshold;
+
+    private final CounterBuffer likes = new CounterBuffer();
+    private final CounterBuffer comments = new CounterBuffer();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile long lastFlushedAt = System.currentTimeMillis();
+
+    public PostCounterService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              PostDetailCache postDetailCache,
+                              @Value("${vlog.post.counter.flush-interval-ms:5000}") long flushIntervalMillis,
+                              @Value("${vlog.post.counter.flush-threshold:1000}") long flushThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postDetailCache = postDetailCache;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.flushThreshold = flushThreshold;
+    }
+
+    public void likeAdded(Long postId) {
+        afterCommit(() -> likes.add(postId, 1));
+    }
+
+    public void likeRemoved(Long postId) {
+        afterCommit(() -> likes.add(postId, -1));
+    }
+
+    public void commentAdded(Long postId) {
+        afterCommit(() -> comments.add(postId, 1));
+    }
+
+    public void commentRemoved(Long postId) {
+        afterCommit(() -> comments.add(postId, -1));
+    }
+
+    /**
+     * DB에 저장된 좋아요 수 + 아직 반영되지 않은 증감량
+     */
+    public int likeCount(Long postId, int storedCount) {
+        return (int) (storedCount + likes.pending(postId));
+    }
+
+    /**
+     * DB에 저장된 댓글 수 + 아직 반영되지 않은 증감량
+     */
+    public int commentCount(Long postId, int storedCount) {
+        return (int) (storedCount + comments.pending(postId));
+    }
+
+    /**
+     * flush 조건 확인 (짧은 주기로 실행, 조건을 만족할 때만 DB 반영)
+     */
+    @Scheduled(fixedDelayString = "${vlog.post.counter.check-interval-ms:200}")
+    public void flushIfNeeded() {
+        boolean thresholdReached = likes.pendingUpdates() + comments.pendingUpdates() >= flushThreshold;
+        boolean intervalElapsed = System.currentTimeMillis() - lastFlushedAt >= flushIntervalMillis;
+        if (thresholdReached || intervalElapsed) {
+            flush();
+        }
+    }
+
+    /**
+     * 누적된 증감량을 한 번의 batch UPDATE로 반영
+     * - 종료 시에도 실행하여 버퍼에 남은 증감 반영
+     * - 실패하면 버퍼에 그대로 남아 다음 flush에서 재시도
+     */
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            lastFlushedAt = System.currentTimeMillis();
+            Map<Long, Long> likeDeltas = likes.snapshot();
+            Map<Long, Long> commentDeltas = comments.snapshot();
+            if (likeDeltas.isEmpty() && commentDeltas.isEmpty()) {
+                return;
+            }
+
+            // id 순으로 정렬하여 다른 트랜잭션과의 락 순서를 일정하게 유지
+            TreeSet<Long> postIds = new TreeSet<>(likeDeltas.keySet());
+            postIds.addAll(commentDeltas.keySet());
+            List<Object[]> batchArgs = postIds.stream()
+                    .map(postId -> new Object[]{
+                            likeDeltas.getOrDefault(postId, 0L),
+                            commentDeltas.getOrDefault(postId, 0L),
+                            postId})
+                    .toList();
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+
+            // 커밋된 값에 반영 중 증감이 또 더해지지 않도록 곧바로 버퍼에서 제거한 뒤, 반영 전 값을 가진 캐시 무효화
+            likes.commit();
+            comments.commit();
+            postDetailCache.evictAll(postIds);
+            log.debug("게시글 카운터 반영: {}건", batchArgs.size());
+        } catch (DataAccessException e) {
+            log.warn("게시글 카운터 반영 실패, 다음 주기에 재시도합니다.", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.likelion.vlog.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.likelion.vlog.dto.response.PostResponse;
+import com.likelion.vlog.entity.OutboxEvent;
+import com.likelion.vlog.entity.OutboxEventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 응답 캐시 (read-through)
+ * - key: postId, value: 조립된 PostResponse (Post + Blog + User + 태그)
+ * - 최대 개수(maximum-size)와 TTL로 제한, 초과 시 Caffeine이 자주 안 쓰이는 항목부터 제거
+ * - 수정/삭제는 아웃박스 이벤트(POST_UPDATED / POST_DELETED)로 커밋 이후에 무효화
+ *   (커밋 전 무효화 시 이전 데이터가 다시 캐시되는 문제 방지, 릴레이 주기만큼은 이전 응답이 보일 수 있음)
+ * - 적중/실패/제거 통계는 /actuator/metrics/cache.* (cache=postDetail)로 노출
+ */
+@Component
+public class PostDetailCache implements OutboxEventListener {
+
+    private static final String CACHE_NAME = "postDetail";
+
+    private final Cache<Long, PostResponse> cache;
+
+    public PostDetailCache(MeterRegistry meterRegistry,
+                           @Value("${vlog.post.cache.maximum-size:10000}") long maximumSize,
+                           @Value("${vlog.post.cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 조립 후 저장
+     * - 같은 postId에 대한 동시 요청은 한 번만 로딩
+     * - loader가 예외를 던지면(404 등) 캐시하지 않음
+     */
+    public PostResponse get(Long postId, Function<Long, PostResponse> loader) {
+        return cache.get(postId, loader);
+    }
+
+    public void evict(Long postId) {
+        cache.invalidate(postId);
+    }
+
+    public void evictAll(Collection<Long> postIds) {
+        cache.invalidateAll(postIds);
+    }
+
+    @Override
+    public boolean supports(OutboxEventType eventType) {
+        return eventType == OutboxEventType.POST_UPDATED || eventType == OutboxEventType.POST_DELETED;
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event, JsonNode payload) {
+        evict(event.getAggregateId());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,62 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시글 요약(excerpt) 백필 작업 (1회성)
+ * - vlog.post.excerpt-backfill.enabled=true 일 때만 애플리케이션 시작 시 실행
+ * - 요약이 없는 게시글을 id 순으로 청크 단위 조회 (keyset, OFFSET 없음)
+ * - 청크마다 별도의 짧은 트랜잭션으로 커밋하여 긴 락 방지
+ * - 이미 채워진 행은 건너뛰므로 중단 후 재실행해도 이어서 진행
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "vlog.post.excerpt-backfill.enabled", havingValue = "true")
+public class PostExcerptBackfillJob implements ApplicationRunner {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public PostExcerptBackfillJob(PostRepository postRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${vlog.post.excerpt-backfill.chunk-size:500}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0L;
+        long total = 0L;
+
+        while (true) {
+            List<Long> ids = postRepository.findIdsWithoutExcerpt(lastId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                    postRepository.findAllById(ids).forEach(Post::refreshExcerpt));
+
+            lastId = ids.get(ids.size() - 1);
+            total += ids.size();
+            log.info("게시글 요약 백필 진행: {}건 완료 (lastId={})", total, lastId);
+        }
+
+        log.info("게시글 요약 백필 완료: 총 {}건", total);
+    }
+}
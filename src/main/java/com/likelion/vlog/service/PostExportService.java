@@ -0,0 +1,223 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.exception.ForbiddenException;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.BlogRepository;
+import com.likelion.vlog.repository.PostExportRow;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.TagMapRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 블로그 게시글 내보내기 (NDJSON / CSV, 선택적 gzip)
+ * - 게시글을 id 순 전방향 스트림(fetch-size 단위 커서)으로 읽어 응답 스트림에 바로 기록
+ * - 엔티티 대신 프로젝션(PostExportRow)을 읽으므로 영속성 컨텍스트에 아무것도 쌓이지 않음
+ * - 태그는 chunk-size개씩 모아 IN 조회 한 번으로 붙이고, 청크마다 flush
+ *   -> 게시글 수와 무관하게 힙 사용 일정
+ */
+@Slf4j
+@Service
+public class PostExportService {
+
+    private static final String CSV_HEADER = "postId,title,content,tags,createdAt,updatedAt";
+    private static final String CSV_TAG_DELIMITER = "|";
+
+    private final PostRepository postRepository;
+    private final TagMapRepository tagMapRepository;
+    private final BlogRepository blogRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+
+    public PostExportService(PostRepository postRepository,
+                             TagMapRepository tagMapRepository,
+                             BlogRepository blogRepository,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${vlog.post.export.chunk-size:500}") int chunkSize) {
+        this.postRepository = postRepository;
+        this.tagMapRepository = tagMapRepository;
+        this.blogRepository = blogRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * 잘못된 형식은 IllegalArgumentException (400 Bad Request)
+         */
+        public static Format from(String format) {
+            if (format == null || format.isBlank()) {
+                return NDJSON;
+            }
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다. format=" + format);
+            }
+        }
+    }
+
+    /**
+     * 내보내기 권한 확인 (응답을 쓰기 시작하기 전에 호출)
+     * - 블로그 주인만 가능 (403)
+     */
+    public void checkExportable(Long blogId, String email) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            Blog blog = blogRepository.findById(blogId)
+                    .orElseThrow(() -> NotFoundException.blogById(blogId));
+            if (!blog.getUser().getEmail().equals(email)) {
+                throw ForbiddenException.postExport();
+            }
+        });
+    }
+
+    /**
+     * 블로그의 모든 게시글을 out에 기록 (out은 닫지 않음)
+     * @return 내보낸 게시글 수
+     */
+    public long export(Long blogId, Format format, boolean gzip, OutputStream out) throws IOException {
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(out, 8192) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                gzipStream != null ? gzipStream : out, StandardCharsets.UTF_8));
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        Long exported;
+        try {
+            exported = readOnlyTransaction.execute(status -> {
+                try (Stream<PostExportRow> rows = postRepository.streamExportRows(blogId)) {
+                    return writeAll(rows.iterator(), format, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        log.info("게시글 내보내기 완료: blogId={}, {}건, format={}, gzip={}", blogId, exported, format, gzip);
+        return exported == null ? 0L : exported;
+    }
+
+    private long writeAll(Iterator<PostExportRow> rows, Format format, Writer writer) throws IOException {
+        long exported = 0L;
+        List<PostExportRow> chunk = new ArrayList<>(chunkSize);
+        while (rows.hasNext()) {
+            chunk.add(rows.next());
+            if (chunk.size() >= chunkSize || !rows.hasNext()) {
+                writeChunk(chunk, format, writer);
+                exported += chunk.size();
+                chunk.clear();
+            }
+        }
+        return exported;
+    }
+
+    // 청크의 태그를 한 번에 조회해 기록 후 flush (클라이언트로 바로 전송)
+    private void writeChunk(List<PostExportRow> chunk, Format format, Writer writer) throws IOException {
+        Map<Long, List<String>> tagsByPostId = new HashMap<>();
+        List<Long> postIds = chunk.stream().map(PostExportRow::postId).toList();
+        for (Object[] row : tagMapRepository.findTagTitlesByPostIds(postIds)) {
+            tagsByPostId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        for (PostExportRow row : chunk) {
+            List<String> tags = tagsByPostId.getOrDefault(row.postId(), List.of());
+            if (format == Format.CSV) {
+                writeCsv(row, tags, writer);
+            } else {
+                writeJson(row, tags, writer);
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeJson(PostExportRow row, List<String> tags, Writer writer) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("postId", row.postId());
+        line.put("title", row.title());
+        line.put("content", row.content());
+        line.put("tags", tags);
+        line.put("createdAt", row.createdAt());
+        line.put("updatedAt", row.updatedAt());
+        writer.write(objectMapper.writeValueAsString(line));
+        writer.write('\n');
+    }
+
+    private void writeCsv(PostExportRow row, List<String> tags, Writer writer) throws IOException {
+        writer.write(String.valueOf(row.postId()));
+        writer.write(',');
+        writer.write(csv(row.title()));
+        writer.write(',');
+        writer.write(csv(row.content()));
+        writer.write(',');
+        writer.write(csv(String.join(CSV_TAG_DELIMITER, tags)));
+        writer.write(',');
+        writer.write(csv(row.createdAt() == null ? null : row.createdAt().toString()));
+        writer.write(',');
+        writer.write(csv(row.updatedAt() == null ? null : row.updatedAt().toString()));
+        writer.write('\n');
+    }
+
+    // RFC 4180: 쉼표/따옴표/개행이 있으면 따옴표로 감싸고 따옴표는 두 번
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return quote ? "\"" + value.replace("\"", "\"\"") + "\"" : value;
+    }
+}
@@ -0,0 +1,244 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.dto.request.PostCreateRequest;
+import com.likelion.vlog.dto.response.PostImportResponse;
+import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.exception.ForbiddenException;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.BlogRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 게시글 일괄 가져오기 (NDJSON)
+ * - 요청 본문을 한 줄씩 읽으며 처리 (본문 전체를 메모리에 올리지 않음)
+ * - 한 줄 = PostCreateRequest JSON 하나, 검증 규칙도 PostCreateRequest와 동일 (@NotBlank 등)
+ * - batch-size개씩 모아 배치마다 별도 트랜잭션으로 저장 (PostService.savePost 재사용)
+ *   -> 배치가 끝나면 영속성 컨텍스트도 비워지므로 가져오는 양과 무관하게 메모리 일정
+ * - 잘못된 줄은 줄 번호와 사유를 기록하고 계속 진행
+ * - 배치 저장이 실패하면 그 배치의 줄을 한 줄씩 다시 저장 (실제로 실패한 줄만 원인과 함께 실패 처리)
+ * - 진행 상황은 배치마다 로그로 기록
+ */
+@Slf4j
+@Service
+public class PostImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final PostService postService;
+    private final TagInterner tagInterner;
+    private final BlogRepository blogRepository;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxLineLength;
+
+    public PostImportService(PostService postService,
+                             TagInterner tagInterner,
+                             BlogRepository blogRepository,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${vlog.post.import.batch-size:100}") int batchSize,
+                             @Value("${vlog.post.import.max-line-length:1000000}") int maxLineLength) {
+        this.postService = postService;
+        this.tagInterner = tagInterner;
+        this.blogRepository = blogRepository;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * 블로그에 게시글 일괄 가져오기
+     * - 블로그 주인만 가능 (403)
+     */
+    public PostImportResponse importPosts(Long blogId, String email, InputStream body) throws IOException {
+        transactionTemplate.executeWithoutResult(status -> {
+            Blog blog = blogRepository.findById(blogId)
+                    .orElseThrow(() -> NotFoundException.blogById(blogId));
+            if (!blog.getUser().getEmail().equals(email)) {
+                throw ForbiddenException.postImport();
+            }
+        });
+
+        ImportResult result = new ImportResult();
+        List<PendingLine> batch = new ArrayList<>(batchSize);
+        LineReader reader = new LineReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), maxLineLength);
+
+        long lineNumber = 0;
+        while (reader.next()) {
+            lineNumber++;
+            if (reader.tooLong()) {
+                result.fail(lineNumber, "한 줄은 최대 " + maxLineLength + "자까지 가능합니다.");
+                continue;
+            }
+            String line = reader.line();
+            if (line.isBlank()) {
+                continue;
+            }
+
+            PostCreateRequest request = parse(line, lineNumber, result);
+            if (request == null) {
+                continue;
+            }
+            batch.add(new PendingLine(lineNumber, request));
+            if (batch.size() >= batchSize) {
+                flush(blogId, batch, result);
+            }
+        }
+        flush(blogId, batch, result);
+
+        log.info("게시글 가져오기 완료: blogId={}, 저장 {}건, 실패 {}건", blogId, result.imported, result.failed);
+        return result.toResponse();
+    }
+
+    // JSON 파싱 + PostCreateRequest 검증, 실패 시 null
+    private PostCreateRequest parse(String line, long lineNumber, ImportResult result) {
+        PostCreateRequest request;
+        try {
+            request = objectMapper.readValue(line, PostCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            result.fail(lineNumber, "잘못된 JSON 형식입니다.");
+            return null;
+        }
+
+        Set<ConstraintViolation<PostCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<PostCreateRequest> violation = violations.iterator().next();
+            result.fail(lineNumber, violation.getPropertyPath() + ": " + violation.getMessage());
+            return null;
+        }
+        return request;
+    }
+
+    // 모인 줄을 한 트랜잭션으로 저장, 실패하면 한 줄씩 다시 저장
+    private void flush(Long blogId, List<PendingLine> batch, ImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            save(blogId, batch);
+            result.imported += batch.size();
+            log.info("게시글 가져오기 진행: blogId={}, 저장 {}건 (line {})",
+                    blogId, result.imported, batch.get(batch.size() - 1).lineNumber());
+        } catch (DataAccessException e) {
+            log.warn("게시글 가져오기 배치 저장 실패, 한 줄씩 다시 저장합니다: blogId={}", blogId, e);
+            for (PendingLine pending : batch) {
+                try {
+                    save(blogId, List.of(pending));
+                    result.imported++;
+                } catch (DataAccessException lineError) {
+                    result.fail(pending.lineNumber(), "저장에 실패했습니다: " + lineError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    // 한 트랜잭션으로 저장 (없는 태그는 트랜잭션 전에 생성, 트랜잭션 안에서는 캐시만 조회)
+    private void save(Long blogId, List<PendingLine> lines) {
+        tagInterner.prepare(lines.stream()
+                .filter(pending -> pending.request().getTags() != null)
+                .flatMap(pending -> pending.request().getTags().stream())
+                .toList());
+        transactionTemplate.executeWithoutResult(status -> {
+            Blog blog = blogRepository.getReferenceById(blogId);
+            lines.forEach(pending -> postService.savePost(blog, pending.request()));
+        });
+    }
+
+    private record PendingLine(long lineNumber, PostCreateRequest request) {
+    }
+
+    // 결과 누적 (실패 사유는 최대 MAX_REPORTED_ERRORS개까지만 보관)
+    private static final class ImportResult {
+        private long imported;
+        private long failed;
+        private final List<PostImportResponse.LineError> errors = new ArrayList<>();
+
+        void fail(long lineNumber, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(PostImportResponse.LineError.of(lineNumber, message));
+            }
+        }
+
+        PostImportResponse toResponse() {
+            return PostImportResponse.builder()
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+
+    /**
+     * 길이 제한이 있는 줄 단위 reader
+     * - BufferedReader.readLine()은 줄 길이 제한이 없어 개행 없는 거대한 입력에 메모리를 모두 사용할 수 있음
+     * - 제한을 넘는 줄은 개행까지 버리고 tooLong()으로 표시
+     */
+    private static final class LineReader {
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean tooLong;
+
+        LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        boolean next() throws IOException {
+            buffer.setLength(0);
+            tooLong = false;
+            int c = reader.read();
+            if (c == -1) {
+                return false;
+            }
+            while (c != -1 && c != '\n') {
+                if (buffer.length() < maxLength) {
+                    buffer.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+                c = reader.read();
+            }
+            if (!buffer.isEmpty() && buffer.charAt(buffer.length() - 1) == '\r') {
+                buffer.setLength(buffer.length() - 1);
+            }
+            return true;
+        }
+
+        String line() {
+            return buffer.toString();
+        }
+
+        boolean tooLong() {
+            return tooLong;
+        }
+    }
+}
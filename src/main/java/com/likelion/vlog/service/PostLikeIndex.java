@@ -0,0 +1,91 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.likelion.vlog.entity.OutboxEvent;
+import com.likelion.vlog.entity.OutboxEventType;
+import com.likelion.vlog.repository.LikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 -> 좋아요한 게시글 id 색인 (메모리, PostingListIndex)
+ * - key: 사용자 id, value: 오름차순 정렬된 게시글 id 배열
+ * - 게시글 목록 한 페이지의 "내가 좋아요 했는지"를 맵 조회 한 번 + 교집합으로 판별 (게시글마다 쿼리하지 않음)
+ * - 애플리케이션 시작 시 likes를 id 순 청크로 읽어 구성, 구성 전에는 ready()가 false (DB 쿼리로 대체)
+ * - 좋아요 / 좋아요 취소 아웃박스 이벤트(LIKE_ADDED / LIKE_REMOVED, payload의 userId)로 갱신 (커밋된 변경만)
+ * - 삭제된 게시글 id는 남아 있어도 조회 결과에 영향 없음 (요청한 id와의 교집합만 반환, id 재사용 없음)
+ */
+@Slf4j
+@Component
+public class PostLikeIndex implements OutboxEventListener {
+
+    private final LikeRepository likeRepository;
+    private final int chunkSize;
+
+    private final PostingListIndex<Long> index = new PostingListIndex<>();
+
+    public PostLikeIndex(LikeRepository likeRepository,
+                         @Value("${vlog.post.like-index.chunk-size:5000}") int chunkSize) {
+        this.likeRepository = likeRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * likes 전체를 읽어 색인 구성 (like id 기준 keyset 청크)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long total = index.build(
+                lastId -> likeRepository.findIndexEntries(lastId, PageRequest.of(0, chunkSize)),
+                row -> (Long) row[1],
+                row -> (Long) row[2]);
+        log.info("좋아요 색인 구성 완료: 사용자 {}명, 좋아요 {}건", index.size(), total);
+    }
+
+    public boolean ready() {
+        return index.ready();
+    }
+
+    /**
+     * postIds 중 사용자가 좋아요 한 게시글 id (오름차순)
+     * @param postIds 중복 없는 오름차순 게시글 id
+     */
+    public long[] likedPostIds(long userId, long[] postIds) {
+        return PostingLists.intersect(index.get(userId), postIds);
+    }
+
+    @Override
+    public boolean supports(OutboxEventType eventType) {
+        return eventType == OutboxEventType.LIKE_ADDED || eventType == OutboxEventType.LIKE_REMOVED;
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event, JsonNode payload) {
+        updateAfterCommit(payload.path("userId").asLong(), event.getAggregateId(),
+                event.getEventType() == OutboxEventType.LIKE_ADDED);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 좋아요 상태 반영 (트랜잭션 밖이면 즉시)
+     */
+    public void updateAfterCommit(long userId, long postId, boolean liked) {
+        index.afterCommit(() -> {
+            if (liked) {
+                index.add(userId, postId);
+            } else {
+                index.remove(userId, postId);
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 사용자 항목 제거 (계정 정리)
+     */
+    public void removeUser(long userId) {
+        index.afterCommit(() -> index.removeKey(userId));
+    }
+}
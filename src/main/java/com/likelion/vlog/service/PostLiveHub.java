@@ -0,0 +1,297 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.response.CommentResponse;
+import com.likelion.vlog.dto.response.PostCountersResponse;
+import com.likelion.vlog.entity.Comment;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글 실시간 이벤트(SSE) 전달
+ * - 새 댓글은 즉시, 좋아요/댓글 수는 counter-interval-ms마다 변경된 게시글만 모아서 한 번 전송 (coalescing)
+ * - 발행은 트랜잭션 커밋 후 inbox에 넣기만 하고 반환 (inbox가 가득 차면 이벤트 버림, 요청 스레드를 막지 않음)
+ * - 단일 dispatcher 스레드가 inbox를 읽어 구독자별 버퍼(buffer-size)에 분배
+ *   -> 버퍼가 가득 찬 구독자(느린 소비자)는 연결을 끊어 다른 구독자와 메모리를 보호
+ * - 구독자마다 가상 스레드가 버퍼를 비우며 전송 (SSE 연결 유지 동안 요청 스레드 / 플랫폼 스레드를 점유하지 않음)
+ * - 지표: vlog.post.live.subscribers, vlog.post.live.evicted, vlog.post.live.dropped
+ */
+@Slf4j
+@Component
+public class PostLiveHub {
+
+    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    private final int bufferSize;
+    private final long counterIntervalMillis;
+    private final long heartbeatIntervalMillis;
+    private final Duration timeout;
+
+    private final BlockingQueue<LiveEvent> inbox;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyCounters = new HashSet<>();   // dispatcher 스레드 전용
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter evicted;
+    private final Counter dropped;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public PostLiveHub(PostRepository postRepository,
+                       PostCounterService postCounterService,
+                       MeterRegistry meterRegistry,
+                       @Value("${vlog.post.live.buffer-size:32}") int bufferSize,
+                       @Value("${vlog.post.live.inbox-capacity:10000}") int inboxCapacity,
+                       @Value("${vlog.post.live.counter-interval-ms:1000}") long counterIntervalMillis,
+                       @Value("${vlog.post.live.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+                       @Value("${vlog.post.live.timeout:30m}") Duration timeout) {
+        this.postRepository = postRepository;
+        this.postCounterService = postCounterService;
+        this.bufferSize = bufferSize;
+        this.counterIntervalMillis = counterIntervalMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.timeout = timeout;
+        this.inbox = new ArrayBlockingQueue<>(inboxCapacity);
+
+        Gauge.builder("vlog.post.live.subscribers", subscriberCount, AtomicInteger::get)
+                .description("게시글 실시간 이벤트 구독자 수")
+                .register(meterRegistry);
+        this.evicted = Counter.builder("vlog.post.live.evicted")
+                .description("버퍼가 가득 차 연결을 끊은 느린 구독자 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("vlog.post.live.dropped")
+                .description("inbox가 가득 차 버린 이벤트 수")
+                .register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "post-live-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    /**
+     * 게시글 구독
+     * - 연결 직후 현재 좋아요/댓글 수를 한 번 전송
+     */
+    public SseEmitter subscribe(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw NotFoundException.post(postId);
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(postId, emitter);
+        subscribers.compute(postId, (key, set) -> {
+            Set<Subscriber> targets = set == null ? ConcurrentHashMap.newKeySet() : set;
+            targets.add(subscriber);
+            return targets;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscriber.start();
+
+        offer(new LiveEvent(postId, null));
+        return emitter;
+    }
+
+    /**
+     * 새 댓글 발행 (커밋 후 전송, 댓글 수도 다음 주기에 함께 갱신)
+     */
+    public void commentAdded(Comment comment) {
+        Long postId = comment.getPost().getId();
+        if (subscribers.containsKey(postId)) {
+            afterCommit(new LiveEvent(postId, CommentResponse.from(comment)));
+        }
+    }
+
+    /**
+     * 좋아요/댓글 수 변경 발행 (커밋 후, counter-interval-ms 단위로 합쳐서 전송)
+     */
+    public void countersChanged(Long postId) {
+        afterCommit(new LiveEvent(postId, null));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        dispatcher.interrupt();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void afterCommit(LiveEvent event) {
+        if (!subscribers.containsKey(event.postId())) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(event);
+            }
+        });
+    }
+
+    private void offer(LiveEvent event) {
+        if (!inbox.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void dispatchLoop() {
+        long nextCounterFlush = System.currentTimeMillis() + counterIntervalMillis;
+        long nextHeartbeat = System.currentTimeMillis() + heartbeatIntervalMillis;
+        while (running) {
+            try {
+                LiveEvent event = inbox.poll(Math.max(0, nextCounterFlush - System.currentTimeMillis()),
+                        TimeUnit.MILLISECONDS);
+                if (event != null) {
+                    dispatch(event);
+                }
+                long now = System.currentTimeMillis();
+                if (now >= nextCounterFlush) {
+                    flushCounters();
+                    nextCounterFlush = now + counterIntervalMillis;
+                }
+                if (now >= nextHeartbeat) {
+                    heartbeat();
+                    nextHeartbeat = now + heartbeatIntervalMillis;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("게시글 실시간 이벤트 전달 실패", e);
+            }
+        }
+    }
+
+    private void dispatch(LiveEvent event) {
+        if (!subscribers.containsKey(event.postId())) {
+            return;
+        }
+        dirtyCounters.add(event.postId());
+        if (event.comment() != null) {
+            fanOut(event.postId(), SseEmitter.event()
+                    .name("comment")
+                    .id(String.valueOf(event.comment().getCommentId()))
+                    .data(event.comment())
+                    .build());
+        }
+    }
+
+    // 변경된 게시글의 카운터를 한 번의 쿼리로 읽어 전송 (미반영 증감량 포함)
+    void flushCounters() {
+        if (dirtyCounters.isEmpty()) {
+            return;
+        }
+        List<Long> postIds = dirtyCounters.stream().filter(subscribers::containsKey).toList();
+        dirtyCounters.clear();
+        if (postIds.isEmpty()) {
+            return;
+        }
+        for (Object[] row : postRepository.findCountersByIds(postIds)) {
+            Long postId = (Long) row[0];
+            PostCountersResponse counters = PostCountersResponse.of(postId,
+                    postCounterService.likeCount(postId, (Integer) row[1]),
+                    postCounterService.commentCount(postId, (Integer) row[2]));
+            fanOut(postId, SseEmitter.event().name("counters").data(counters).build());
+        }
+    }
+
+    // 프록시 / 로드밸런서의 유휴 연결 종료 방지 + 끊긴 연결 감지
+    private void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.keySet().forEach(postId -> fanOut(postId, ping));
+    }
+
+    private void fanOut(Long postId, Set<ResponseBodyEmitter.DataWithMediaType> items) {
+        Set<Subscriber> targets = subscribers.get(postId);
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            if (!subscriber.buffer.offer(items)) {
+                evicted.increment();
+                log.debug("느린 구독자 연결 종료: postId={}", postId);
+                subscriber.emitter.complete();
+                subscriber.close();
+            }
+        }
+    }
+
+    private record LiveEvent(Long postId, CommentResponse comment) {
+    }
+
+    private final class Subscriber {
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread writer;
+
+        Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void start() {
+            writer = Thread.ofVirtual().name("post-live-" + postId).start(this::drain);
+        }
+
+        // 버퍼에 쌓인 이벤트를 순서대로 전송 (가상 스레드, 전송이 느려도 dispatcher는 막히지 않음)
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    emitter.send(buffer.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료 또는 이미 완료된 emitter
+                close();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            buffer.clear();
+            subscriberCount.decrementAndGet();
+            subscribers.computeIfPresent(postId, (key, set) -> {
+                set.remove(this);
+                return set.isEmpty() ? null : set;
+            });
+            Thread thread = writer;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+}
@@ -1,19 +1,36 @@
 package com.likelion.vlog.service;
 
+import com.likelion.vlog.dto.common.Cursor;
+import com.likelion.vlog.dto.common.TagFilter;
 import com.likelion.vlog.dto.request.PostCreateRequest;
+import com.likelion.vlog.dto.request.PostPatchRequest;
 import com.likelion.vlog.dto.request.PostUpdateRequest;
 import com.likelion.vlog.dto.response.*;
 import com.likelion.vlog.entity.*;
+import com.likelion.vlog.exception.ConflictException;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.NotFoundException;
 import com.likelion.vlog.repository.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 게시글 비즈니스 로직
@@ -27,50 +44,195 @@ public class PostService {
     private final PostRepository postRepository;
     private final TagRepository tagRepository;
     private final TagMapRepository tagMapRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
     private final UserRepository userRepository;
     private final BlogRepository blogRepository;
+    private final PostCounterService postCounterService;
+    private final PostViewCounter postViewCounter;
+    private final PostDetailCache postDetailCache;
+    private final PostTagIndex postTagIndex;
+    private final TagInterner tagInterner;
+    private final OutboxPublisher outboxPublisher;
+    private final TrendingRanking trendingRanking;
 
     /**
      * 게시글 목록 조회 (페이징 + 필터링)
      * - tag: 특정 태그가 달린 게시글만 조회
      * - blogId: 특정 블로그의 게시글만 조회
      * - 둘 다 null이면 전체 조회
+     * - 본문 전체 대신 프로젝션(PostSummary)으로 조회하여 TEXT 컬럼/작성자 지연 로딩 회피
+     * - 태그 단독 필터(최신순)는 태그 색인에서 페이지 id를 결정하고 PK로만 조회 (JOIN/COUNT 쿼리 없음)
      */
     public PageResponse<PostListResponse> getPosts(String tag, Long blogId, Pageable pageable) {
-        Page<Post> postPage;
+        Page<PostSummary> postPage;
 
         // 필터 조건에 따라 다른 쿼리 실행
         if (tag != null && blogId != null) {
-            postPage = postRepository.findAllByTagNameAndBlogId(tag, blogId, pageable);
+            postPage = postRepository.findSummariesByTagNameAndBlogId(tag, blogId, pageable);
+        } else if (tag != null && postTagIndex.ready() && isLatestFirst(pageable)) {
+            postPage = findSummariesPage(postTagIndex.postIds(tag), pageable);
         } else if (tag != null) {
-            postPage = postRepository.findAllByTagName(tag, pageable);
+            postPage = postRepository.findSummariesByTagName(tag, pageable);
         } else if (blogId != null) {
-            postPage = postRepository.findAllByBlogId(blogId, pageable);
+            postPage = postRepository.findSummariesByBlogId(blogId, pageable);
         } else {
-            postPage = postRepository.findAll(pageable);
+            postPage = postRepository.findSummaries(pageable);
         }
 
-        List<Post> posts = postPage.getContent();
-
-        // Entity -> DTO 변환
-        List<PostListResponse> content = posts.stream()
-                .map(PostListResponse::of)
-                .toList();
+        // Projection -> DTO 변환 (태그/좋아요/댓글 수 일괄 병합)
+        List<PostListResponse> content = toListResponses(postPage.getContent());
 
         return PageResponse.of(postPage, content);
     }
 
+    /**
+     * 게시글 목록 조회 (커서 페이징)
+     * - OFFSET/COUNT 없이 마지막으로 본 id 이후를 조회하므로 깊은 페이지도 일정한 속도
+     * - cursor가 null이면 첫 페이지
+     * - 필터 조건은 getPosts와 동일
+     */
+    public CursorPageResponse<PostListResponse> getPostsByCursor(String tag, Long blogId, String cursor, int size) {
+        Long cursorId = Cursor.decode(cursor);
+        if (cursorId == null) {
+            cursorId = Long.MAX_VALUE;
+        }
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<PostSummary> postSlice;
+
+        if (tag != null && blogId != null) {
+            postSlice = postRepository.findSummariesByTagNameAndBlogIdBefore(tag, blogId, cursorId, pageable);
+        } else if (tag != null && postTagIndex.ready()) {
+            postSlice = findSummariesBefore(postTagIndex.postIds(tag), cursorId, size);
+        } else if (tag != null) {
+            postSlice = postRepository.findSummariesByTagNameBefore(tag, cursorId, pageable);
+        } else if (blogId != null) {
+            postSlice = postRepository.findSummariesByBlogIdBefore(blogId, cursorId, pageable);
+        } else {
+            postSlice = postRepository.findSummariesBefore(cursorId, pageable);
+        }
+
+        return toCursorPage(postSlice);
+    }
+
+    /**
+     * 게시글 목록 조회 - 다중 태그 필터 (?tag=A&tag=B&mode=all|any)
+     * - 태그가 하나 이하면 단일 태그 조회와 동일
+     * - 태그별 정렬된 게시글 id 목록을 all이면 교집합, any면 합집합으로 합친 뒤 페이징 (최신순 고정)
+     * - blogId가 있으면 블로그의 게시글 id 목록과 한 번 더 교집합
+     */
+    public PageResponse<PostListResponse> getPostsByTags(TagFilter tagFilter, Long blogId, Pageable pageable) {
+        if (!tagFilter.isMultiple()) {
+            return getPosts(tagFilter.singleTag(), blogId, pageable);
+        }
+
+        Page<PostSummary> postPage = findSummariesPage(resolvePostIds(tagFilter, blogId), pageable);
+        return PageResponse.of(postPage, toListResponses(postPage.getContent()));
+    }
+
+    /**
+     * 인기 게시글 목록 조회 (?sort=trending)
+     * - 순위(게시글 id)는 메모리의 TrendingRanking에서, 요약은 페이지 id로 한 번에 조회 후 순위 순서로 정렬
+     * - 전체 개수는 순위에 있는 게시글 수 (COUNT 쿼리 없음)
+     * - 순위에는 있지만 조회되지 않은 게시글(삭제 이벤트를 놓친 경우, 복원된 체크포인트 등)은 순위에서도 제거
+     */
+    public PageResponse<PostListResponse> getTrendingPosts(Pageable pageable) {
+        TrendingRanking.RankedPage ranked = trendingRanking.page(pageable.getOffset(), pageable.getPageSize());
+
+        List<PostSummary> content = new ArrayList<>(ranked.postIds().size());
+        if (!ranked.postIds().isEmpty()) {
+            Map<Long, PostSummary> summaryById = new HashMap<>();
+            postRepository.findSummariesByIds(ranked.postIds())
+                    .forEach(summary -> summaryById.put(summary.postId(), summary));
+            for (Long postId : ranked.postIds()) {
+                PostSummary summary = summaryById.get(postId);
+                if (summary != null) {
+                    content.add(summary);
+                } else {
+                    trendingRanking.removed(postId);
+                }
+            }
+        }
+        Page<PostSummary> postPage = new PageImpl<>(content, pageable, ranked.total());
+        return PageResponse.of(postPage, toListResponses(content));
+    }
+
+    /**
+     * 게시글 목록 조회 - 다중 태그 필터 + 커서 페이징
+     */
+    public CursorPageResponse<PostListResponse> getPostsByTagsCursor(TagFilter tagFilter, Long blogId, String cursor, int size) {
+        if (!tagFilter.isMultiple()) {
+            return getPostsByCursor(tagFilter.singleTag(), blogId, cursor, size);
+        }
+
+        Long cursorId = Cursor.decode(cursor);
+        long[] postIds = resolvePostIds(tagFilter, blogId);
+        return toCursorPage(findSummariesBefore(postIds, cursorId == null ? Long.MAX_VALUE : cursorId, size));
+    }
+
+    /**
+     * 게시글 목록 버전 조회 (조건부 GET용)
+     * - 필터 조건(tag, blogId)에 해당하는 게시글의 최대 updatedAt/개수/카운터 합계
+     * - 목록 본문을 조회하지 않으므로 304 응답 시 목록/태그 쿼리 없음
+     * - 카운터는 DB 반영값 기준 (미반영 증감량은 flush 이후 버전에 반영)
+     */
+    public PostVersion getPostsVersion(String tag, Long blogId) {
+        if (tag != null && blogId != null) {
+            return postRepository.findVersionByTagNameAndBlogId(tag, blogId);
+        } else if (tag != null) {
+            return postRepository.findVersionByTagName(tag);
+        } else if (blogId != null) {
+            return postRepository.findVersionByBlogId(blogId);
+        }
+        return postRepository.findVersion();
+    }
+
+    /**
+     * 게시글 목록 버전 조회 - 다중 태그 필터
+     * - 여러 태그는 태그 조건을 뺀 상위 집합(블로그 또는 전체)의 버전 사용
+     *   (상위 집합이 바뀌지 않으면 결과도 바뀌지 않으므로 304 판단은 안전, 대신 200이 더 자주 나갈 수 있음)
+     */
+    public PostVersion getPostsByTagsVersion(TagFilter tagFilter, Long blogId) {
+        return getPostsVersion(tagFilter.singleTag(), blogId);
+    }
+
+    /**
+     * 게시글 상세 버전 조회 (조건부 GET용)
+     * - 본문/작성자/태그를 읽지 않고 updatedAt과 카운터만 조회
+     * - 좋아요/댓글 수는 응답과 같도록 미반영 증감량 포함 (조회수는 제외: 조회마다 바뀌므로)
+     */
+    public PostVersion getPostVersion(Long postId) {
+        PostVersion version = postRepository.findVersionById(postId);
+        if (!version.exists()) {
+            throw NotFoundException.post(postId);
+        }
+        return version.withCounts(
+                postCounterService.likeCount(postId, version.likeCount().intValue()),
+                postCounterService.commentCount(postId, version.commentCount().intValue()));
+    }
+
     /**
      * 게시글 상세 조회
-     * - 좋아요/댓글은 Sprint 3에서 구현 예정
+     * - 조립된 응답은 PostDetailCache에 캐시 (캐시 적중 시 DB 조회 없음)
+     * - 좋아요/댓글/조회수는 캐시된 값 + 미반영 증감량
+     *   (증감량이 DB에 반영되면 카운터 쪽에서 해당 캐시를 무효화)
      */
     public PostResponse getPost(Long postId) {
+        PostResponse cached = postDetailCache.get(postId, this::loadPost);
+
+        return cached.toBuilder()
+                .likeCount(postCounterService.likeCount(postId, cached.getLikeCount()))
+                .commentCount(postCounterService.commentCount(postId, cached.getCommentCount()))
+                .viewCount(cached.getViewCount() + postViewCounter.pending(postId))
+                .build();
+    }
+
+    // 캐시 미스 시 상세 응답 조립 (Post -> Blog -> User, TagMap -> Tag)
+    private PostResponse loadPost(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> NotFoundException.post(postId));
 
-        List<String> tags = getTagNames(post);
-
-        return PostResponse.of(post, tags);
+        return PostResponse.of(post, getTagNames(post));
     }
 
     /**
@@ -86,12 +248,22 @@ public class PostService {
         Blog blog = blogRepository.findByUser(user)
                 .orElseThrow(() -> NotFoundException.blog(user.getId()));
 
+        return savePost(blog, request);
+    }
+
+    /**
+     * 게시글 + 태그 저장 (게시글 작성 / 일괄 가져오기 공용)
+     * - 호출자의 트랜잭션에 참여 (일괄 가져오기는 배치 단위 트랜잭션)
+     */
+    @Transactional
+    public PostResponse savePost(Blog blog, PostCreateRequest request) {
         // Post 생성 (정적 팩토리 메서드 사용)
         Post post = Post.create(request.getTitle(), request.getContent(), blog);
         Post savedPost = postRepository.save(post);
 
         // 태그 저장 (없는 태그는 새로 생성)
-        List<String> tagNames = saveTags(savedPost, request.getTags());
+        List<String> tagNames = saveTags(savedPost, tagInterner.intern(request.getTags()));
+        outboxPublisher.append(OutboxEventType.POST_CREATED, savedPost.getId(), postPayload(savedPost, tagNames));
 
         return PostResponse.of(savedPost, tagNames);
     }
@@ -99,7 +271,7 @@ public class PostService {
     /**
      * 게시글 수정
      * - 작성자 본인만 수정 가능 (권한 검증)
-     * - 기존 태그 삭제 후 새로 저장
+     * - 태그는 기존 태그와의 변경분만 반영 (updateTags)
      */
     @Transactional
     public PostResponse updatePost(Long postId, PostUpdateRequest request, String email) {
@@ -113,17 +285,51 @@ public class PostService {
 
         post.update(request.getTitle(), request.getContent());
 
-        // 태그 업데이트: 기존 매핑 삭제 후 새로 저장
-        tagMapRepository.deleteAllByPost(post);
-        List<String> tagNames = saveTags(post, request.getTags());
+        TagUpdate tagUpdate = updateTags(post, request.getTags());
+        Map<String, Object> payload = postPayload(post, tagUpdate.tagNames());
+        payload.put("removedTags", tagUpdate.removedTags());
+        outboxPublisher.append(OutboxEventType.POST_UPDATED, postId, payload);
+
+        return PostResponse.of(post, tagUpdate.tagNames());
+    }
+
+    /**
+     * 게시글 본문 부분 수정 (자동 저장)
+     * - 작성자 본인만 가능
+     * - baseVersion이 현재 버전과 다르면 409 (다른 곳에서 먼저 저장됨), 확인 후 커밋 전 경합은 @Version으로 409
+     * - 원본 기준 변경 목록(TextDelta)을 서버에서 적용, 제목/태그는 건드리지 않음 (태그 쓰기 SQL 없음)
+     */
+    @Transactional
+    public PostPatchResponse patchPost(Long postId, PostPatchRequest request, String email) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> NotFoundException.post(postId));
+
+        if (!post.getBlog().getUser().getEmail().equals(email)) {
+            throw ForbiddenException.postUpdate();
+        }
+        if (!post.getVersion().equals(request.getBaseVersion())) {
+            throw ConflictException.postVersion(postId, post.getVersion());
+        }
 
-        return PostResponse.of(post, tagNames);
+        String content = TextDelta.apply(post.getContent(), request.getEdits());
+        if (content.isBlank()) {
+            throw new IllegalArgumentException("내용은 필수입니다.");
+        }
+        post.updateContent(content);
+        // 버전 증가 확인 + 낙관적 락 실패를 여기서 감지 (repository를 거쳐야 스프링 예외로 변환)
+        postRepository.saveAndFlush(post);
+
+        List<String> tagNames = tagMapRepository.findTagTitlesByPostIds(List.of(postId)).stream()
+                .map(row -> (String) row[1])
+                .toList();
+        outboxPublisher.append(OutboxEventType.POST_UPDATED, postId, postPayload(post, tagNames));
+        return PostPatchResponse.from(post);
     }
 
     /**
      * 게시글 삭제
      * - 작성자 본인만 삭제 가능
-     * - 태그 매핑도 함께 삭제
+     * - 태그 매핑/댓글/좋아요도 함께 삭제 (deletePosts)
      */
     @Transactional
     public void deletePost(Long postId, String email) {
@@ -134,8 +340,183 @@ public class PostService {
             throw ForbiddenException.postDelete();
         }
 
-        tagMapRepository.deleteAllByPost(post);
-        postRepository.delete(post);
+        deletePosts(List.of(postId));
+    }
+
+    /**
+     * 게시글 여러 개를 연관 데이터와 함께 삭제 (권한 확인은 호출자 책임)
+     * - 엔티티를 읽지 않고 테이블마다 DELETE ... WHERE post_id IN (...) 한 번씩
+     *   (대댓글 연결 해제 -> 댓글 -> 좋아요 -> 태그 매핑 -> 게시글 순, FK 순서)
+     * - 호출자의 트랜잭션에 참여, 없으면 호출마다 새 트랜잭션 (일괄 삭제는 청크마다 호출)
+     * - 태그 색인/상세 캐시/인기 순위는 POST_DELETED 아웃박스 이벤트로 갱신
+     * @return 삭제된 게시글 수
+     */
+    @Transactional
+    public int deletePosts(List<Long> postIds) {
+        List<Object[]> targets = postRepository.findBlogIdsByIds(postIds);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = targets.stream().map(row -> (Long) row[0]).toList();
+
+        Map<Long, List<String>> tagsByPostId = new HashMap<>();
+        for (Object[] row : tagMapRepository.findTagTitlesByPostIds(ids)) {
+            tagsByPostId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        commentRepository.detachRepliesByPostIds(ids);
+        commentRepository.deleteAllByPostIds(ids);
+        likeRepository.deleteAllByPostIds(ids);
+        tagMapRepository.deleteAllByPostIds(ids);
+        int deleted = postRepository.deleteAllByIds(ids);
+
+        for (Object[] row : targets) {
+            Long postId = (Long) row[0];
+            List<String> tagNames = tagsByPostId.getOrDefault(postId, List.of());
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("postId", postId);
+            payload.put("blogId", row[1]);
+            payload.put("tags", tagNames);
+            outboxPublisher.append(OutboxEventType.POST_DELETED, postId, payload);
+        }
+        return deleted;
+    }
+
+    /**
+     * 블로그에서 태그 조건을 만족하는 게시글 id (오름차순, 일괄 삭제 대상 선정용)
+     * - 태그가 없으면 블로그의 모든 게시글
+     */
+    public long[] findPostIds(TagFilter tagFilter, Long blogId) {
+        if (tagFilter.tags().isEmpty()) {
+            return toArray(postRepository.findIdsByBlogId(blogId));
+        }
+        return resolvePostIds(tagFilter, blogId);
+    }
+
+    // 아웃박스 이벤트 내용 (본문 제외, 필요한 리스너는 postId로 조회)
+    private Map<String, Object> postPayload(Post post, List<String> tagNames) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("postId", post.getId());
+        payload.put("blogId", post.getBlog().getId());
+        payload.put("title", post.getTitle());
+        payload.put("tags", tagNames);
+        return payload;
+    }
+
+    // 색인 경로는 id 내림차순(기본 정렬)일 때만 사용
+    private boolean isLatestFirst(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        return sort.isUnsorted() || sort.equals(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    /**
+     * 태그 조건을 만족하는 게시글 id (오름차순)
+     * - all: galloping 교집합, any: k-way merge 합집합 (PostingLists)
+     */
+    private long[] resolvePostIds(TagFilter tagFilter, Long blogId) {
+        List<long[]> postIdsByTag = tagFilter.tags().stream()
+                .map(this::findPostIdsByTag)
+                .toList();
+        long[] postIds = tagFilter.mode() == TagFilter.Mode.ALL
+                ? PostingLists.intersectAll(postIdsByTag)
+                : PostingLists.union(postIdsByTag);
+
+        if (blogId != null && postIds.length > 0) {
+            postIds = PostingLists.intersect(postIds, toArray(postRepository.findIdsByBlogId(blogId)));
+        }
+        return postIds;
+    }
+
+    // 태그 색인이 준비되기 전에는 DB에서 태그별 id 목록 조회
+    private long[] findPostIdsByTag(String tag) {
+        if (postTagIndex.ready()) {
+            return postTagIndex.postIds(tag);
+        }
+        return toArray(tagMapRepository.findPostIdsByTagTitle(tag));
+    }
+
+    private long[] toArray(List<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 정렬된 id 배열 기반 오프셋 페이지 조회 (태그 색인 / 다중 태그 결과)
+     * - id 배열(오름차순)을 뒤에서부터 offset만큼 건너뛰어 페이지 id 결정
+     * - 전체 개수는 배열 길이 (COUNT 쿼리 없음)
+     */
+    private Page<PostSummary> findSummariesPage(long[] postIds, Pageable pageable) {
+        List<Long> pageIds = new ArrayList<>(pageable.getPageSize());
+        for (long i = postIds.length - 1 - pageable.getOffset(); i >= 0 && pageIds.size() < pageable.getPageSize(); i--) {
+            pageIds.add(postIds[(int) i]);
+        }
+
+        List<PostSummary> content = pageIds.isEmpty() ? List.of() : postRepository.findSummariesByIds(pageIds);
+        return new PageImpl<>(content, pageable, postIds.length);
+    }
+
+    /**
+     * 정렬된 id 배열 기반 커서 페이지 조회
+     * - cursorId보다 작은 id 위치를 이진 탐색 후 size개를 읽고, 남은 id가 있으면 다음 페이지 있음
+     */
+    private Slice<PostSummary> findSummariesBefore(long[] postIds, long cursorId, int size) {
+        int pos = Arrays.binarySearch(postIds, cursorId);
+        int start = pos >= 0 ? pos - 1 : -pos - 2;
+
+        List<Long> pageIds = new ArrayList<>(size);
+        for (int i = start; i >= 0 && pageIds.size() < size; i--) {
+            pageIds.add(postIds[i]);
+        }
+        boolean hasNext = start - size >= 0;
+
+        List<PostSummary> content = pageIds.isEmpty() ? List.of() : postRepository.findSummariesByIds(pageIds);
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    private CursorPageResponse<PostListResponse> toCursorPage(Slice<PostSummary> postSlice) {
+        List<PostSummary> summaries = postSlice.getContent();
+
+        List<PostListResponse> content = toListResponses(summaries);
+
+        String nextCursor = summaries.isEmpty() ? null : Cursor.encode(summaries.get(summaries.size() - 1).postId());
+        return CursorPageResponse.of(postSlice, content, nextCursor);
+    }
+
+    /**
+     * 목록 페이지 DTO 변환 (N+1 방지)
+     * - 페이지의 post id 목록으로 태그를 한 번에 일괄 조회 (페이지 크기와 무관하게 쿼리 1회)
+     * - 좋아요/댓글 수는 비정규화 컬럼 + 미반영 증감량 (COUNT 쿼리 없음)
+     * - 조회 결과는 id -> 페이지 내 위치 인덱스를 통해 배열에 병합
+     */
+    private List<PostListResponse> toListResponses(List<PostSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+
+        int size = summaries.size();
+        List<Long> postIds = new ArrayList<>(size);
+        Map<Long, Integer> indexById = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Long postId = summaries.get(i).postId();
+            postIds.add(postId);
+            indexById.put(postId, i);
+        }
+
+        List<List<String>> tags = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tags.add(new ArrayList<>());
+        }
+        for (Object[] row : tagMapRepository.findTagTitlesByPostIds(postIds)) {
+            tags.get(indexById.get((Long) row[0])).add((String) row[1]);
+        }
+
+        List<PostListResponse> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PostSummary summary = summaries.get(i);
+            int likeCount = postCounterService.likeCount(summary.postId(), summary.likeCount());
+            int commentCount = postCounterService.commentCount(summary.postId(), summary.commentCount());
+            content.add(PostListResponse.of(summary, tags.get(i), likeCount, commentCount));
+        }
+        return content;
     }
 
     /**
@@ -149,28 +530,64 @@ public class PostService {
     }
 
     /**
-     * 태그 저장 (없으면 생성)
-     * - 이미 존재하는 태그면 재사용
-     * - 없는 태그면 새로 생성
-     * - Post-Tag 매핑(TagMap) 생성
+     * 태그 변경분 반영
+     * - 현재 매핑(태그 포함)을 한 번에 조회해 요청 태그와 태그 id로 비교
+     * - 빠진 태그의 매핑만 id IN 한 번으로 삭제, 새 태그만 batch insert (saveTags)
+     * - 태그 구성이 같으면 조회 외에 태그 관련 쓰기 SQL 없음
+     * @return 요청 순서대로 중복 제거된 태그 이름 + 빠진 태그 이름 (태그 색인 이벤트용)
      */
-    private List<String> saveTags(Post post, List<String> tagNames) {
-        if (tagNames == null || tagNames.isEmpty()) {
-            return List.of();
+    private TagUpdate updateTags(Post post, List<String> tagNames) {
+        List<TagInterner.InternedTag> requested = tagInterner.intern(tagNames);
+        Set<Long> requestedIds = new HashSet<>();
+        requested.forEach(tag -> requestedIds.add(tag.id()));
+
+        Set<Long> kept = new HashSet<>();
+        Set<String> removed = new LinkedHashSet<>();
+        List<Long> removedMapIds = new ArrayList<>();
+        for (TagMap tagMap : tagMapRepository.findAllWithTagByPost(post)) {
+            Tag tag = tagMap.getTag();
+            // 유지할 태그의 첫 매핑만 남기고, 빠진 태그 또는 같은 태그의 중복 매핑은 삭제
+            if (requestedIds.contains(tag.getId()) && kept.add(tag.getId())) {
+                continue;
+            }
+            removedMapIds.add(tagMap.getId());
+            if (!requestedIds.contains(tag.getId())) {
+                removed.add(tag.getTitle());
+            }
+        }
+
+        List<TagInterner.InternedTag> added = requested.stream()
+                .filter(tag -> !kept.contains(tag.id()))
+                .toList();
+
+        if (!removedMapIds.isEmpty()) {
+            tagMapRepository.deleteAllByIdInBatch(removedMapIds);
         }
+        saveTags(post, added);
 
-        return tagNames.stream()
-                .map(tagName -> {
-                    // 태그 조회 또는 생성 (정적 팩토리 메서드 사용)
-                    Tag tag = tagRepository.findByTitle(tagName)
-                            .orElseGet(() -> tagRepository.save(Tag.create(tagName)));
+        return new TagUpdate(requested.stream().map(TagInterner.InternedTag::title).toList(), List.copyOf(removed));
+    }
 
-                    // Post-Tag 매핑 생성 (정적 팩토리 메서드 사용)
-                    TagMap tagMap = TagMap.create(post, tag);
-                    tagMapRepository.save(tagMap);
+    private record TagUpdate(List<String> tagNames, List<String> removedTags) {
+    }
 
-                    return tagName;
-                })
+    /**
+     * Post-Tag 매핑 저장
+     * - 태그 조회/생성은 TagInterner에서 처리 (자주 쓰는 태그는 DB 조회 없음)
+     * - 매핑은 태그 id 참조(getReferenceById, SQL 없음)로 만들어 커밋 시점에 JDBC batch insert
+     * @return 저장된 태그 이름
+     */
+    private List<String> saveTags(Post post, List<TagInterner.InternedTag> tags) {
+        if (tags.isEmpty()) {
+            return List.of();
+        }
+
+        // Post-Tag 매핑 생성 (정적 팩토리 메서드 사용)
+        List<TagMap> tagMaps = tags.stream()
+                .map(tag -> TagMap.create(post, tagRepository.getReferenceById(tag.id())))
                 .toList();
+        tagMapRepository.saveAll(tagMaps);
+
+        return tags.stream().map(TagInterner.InternedTag::title).toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.likelion.vlog.entity.OutboxEvent;
+import com.likelion.vlog.entity.OutboxEventType;
+import com.likelion.vlog.repository.TagMapRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 태그 -> 게시글 id 역색인 (메모리, PostingListIndex)
+ * - key: 태그 비교 키(TagInterner.key), value: 오름차순 정렬된 게시글 id 배열 (long[], 박싱 없음)
+ *   (태그 필터 쿼리와 같은 기준: 공백 정규화 + 대소문자 무시 -> ?tag=Spring / spring 결과가 색인 여부와 무관하게 같음)
+ * - 애플리케이션 시작 시 tag_maps를 id 순 청크로 읽어 구성, 구성 전에는 ready()가 false (DB 쿼리로 대체)
+ * - 게시글 작성/수정/삭제 아웃박스 이벤트로 갱신 (커밋된 변경만, 같은 게시글은 발생 순서대로)
+ *   -> payload의 tags(현재 태그), removedTags(수정으로 빠진 태그) 사용, 재전달되어도 결과는 같음
+ */
+@Slf4j
+@Component
+public class PostTagIndex implements OutboxEventListener {
+
+    private final TagMapRepository tagMapRepository;
+    private final int chunkSize;
+
+    private final PostingListIndex<String> index = new PostingListIndex<>();
+
+    public PostTagIndex(TagMapRepository tagMapRepository,
+                        @Value("${vlog.post.tag-index.chunk-size:5000}") int chunkSize) {
+        this.tagMapRepository = tagMapRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * tag_maps 전체를 읽어 색인 구성 (tag_map id 기준 keyset 청크)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long total = index.build(
+                lastId -> tagMapRepository.findIndexEntries(lastId, PageRequest.of(0, chunkSize)),
+                row -> TagInterner.key((String) row[2]),
+                row -> (Long) row[1]);
+        log.info("태그 색인 구성 완료: 태그 {}개, 매핑 {}건", index.size(), total);
+    }
+
+    public boolean ready() {
+        return index.ready();
+    }
+
+    /**
+     * 태그가 달린 게시글 id (오름차순, 반환 배열은 수정 금지)
+     */
+    public long[] postIds(String tag) {
+        return index.get(TagInterner.key(tag));
+    }
+
+    @Override
+    public boolean supports(OutboxEventType eventType) {
+        return eventType == OutboxEventType.POST_CREATED
+                || eventType == OutboxEventType.POST_UPDATED
+                || eventType == OutboxEventType.POST_DELETED;
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event, JsonNode payload) {
+        long postId = event.getAggregateId();
+        List<String> tags = texts(payload.path("tags"));
+        switch (event.getEventType()) {
+            case POST_CREATED -> updateAfterCommit(postId, List.of(), tags);
+            case POST_UPDATED -> updateAfterCommit(postId, texts(payload.path("removedTags")), tags);
+            case POST_DELETED -> updateAfterCommit(postId, tags, List.of());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 게시글의 태그 변경 반영 (트랜잭션 밖이면 즉시)
+     * @param removedTags 더 이상 달려 있지 않은 태그
+     * @param addedTags   새로 달린 태그
+     */
+    public void updateAfterCommit(long postId, Collection<String> removedTags, Collection<String> addedTags) {
+        List<String> removed = List.copyOf(removedTags);
+        List<String> added = List.copyOf(addedTags);
+        index.afterCommit(() -> {
+            removed.forEach(tag -> index.remove(TagInterner.key(tag), postId));
+            added.forEach(tag -> index.add(TagInterner.key(tag), postId));
+        });
+    }
+
+    private List<String> texts(JsonNode array) {
+        List<String> values = new ArrayList<>(array.size());
+        array.forEach(node -> values.add(node.asText()));
+        return values;
+    }
+}
@@ -0,0 +1,120 @@
+package com.likelion.vlog.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수 집계
+ * - 상세 조회마다 UPDATE 하지 않고 메모리 버퍼(CounterBuffer)에 락 없이 누적
+ * - 같은 방문자(세션)의 반복 조회는 dedup-window-ms 동안 한 번만 집계 (집계된 조회는 인기 순위에도 반영)
+ *   중복 집계 제외 기록은 최대 dedup-max-size개 (Caffeine, 초과 시 오래된 기록부터 제거 -> 다시 집계될 수 있음)
+ * - flush-interval-ms마다 누적된 증가분을 한 번의 batch UPDATE로 반영
+ * - 종료 시에도 flush 하여 집계된 조회수 유실 방지
+ */
+@Slf4j
+@Service
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+    private final TrendingRanking trendingRanking;
+
+    private final CounterBuffer views = new CounterBuffer();
+    // "방문자:게시글" - dedup-window-ms 후 만료
+    private final Cache<String, Boolean> recentViews;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           PostDetailCache postDetailCache,
+                           TrendingRanking trendingRanking,
+                           @Value("${vlog.post.view.dedup-window-ms:1800000}") long dedupWindowMillis,
+                           @Value("${vlog.post.view.dedup-max-size:100000}") long dedupMaxSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postDetailCache = postDetailCache;
+        this.trendingRanking = trendingRanking;
+        this.recentViews = Caffeine.newBuilder()
+                .maximumSize(dedupMaxSize)
+                .expireAfterWrite(Duration.ofMillis(dedupWindowMillis))
+                .build();
+    }
+
+    /**
+     * 조회 기록
+     * @param viewerKey 방문자 식별 값 (세션 id 등)
+     * @return 조회수에 집계되었으면 true, 중복 조회로 제외되었으면 false
+     */
+    public boolean record(Long postId, String viewerKey) {
+        String key = viewerKey + ":" + postId;
+
+        boolean counted = recentViews.asMap().putIfAbsent(key, Boolean.TRUE) == null;
+        if (counted) {
+            views.add(postId, 1);
+            trendingRanking.viewed(postId);
+        }
+        return counted;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pending(Long postId) {
+        return views.pending(postId);
+    }
+
+    // 중복 집계 제외 기록 수 (대기 중인 제거를 먼저 처리)
+    long trackedViewers() {
+        recentViews.cleanUp();
+        return recentViews.estimatedSize();
+    }
+
+    /**
+     * 누적된 조회수를 한 번의 batch UPDATE로 반영
+     * - 실패하면 버퍼에 그대로 남아 다음 주기에 재시도
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${vlog.post.view.flush-interval-ms:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = views.snapshot();
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> batchArgs = deltas.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                    .toList();
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+
+            // 커밋된 값에 반영 중 조회수가 또 더해지지 않도록 곧바로 버퍼에서 제거한 뒤, 반영 전 값을 가진 캐시 무효화
+            views.commit();
+            postDetailCache.evictAll(deltas.keySet());
+            log.debug("게시글 조회수 반영: {}건", batchArgs.size());
+        } catch (DataAccessException e) {
+            log.warn("게시글 조회수 반영 실패, 다음 주기에 재시도합니다.", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.likelion.vlog.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * key -> 오름차순 정렬된 게시글 id 배열(posting list) 색인 (PostTagIndex, PostLikeIndex 공통)
+ * - 시작 시 테이블을 id 기준 keyset 청크로 읽어 구성, 구성 전에는 ready()가 false (호출자는 DB 쿼리로 대체)
+ * - 변경은 afterCommit으로 커밋 이후에 반영, 구성 중에 커밋된 변경은 구성 완료 후 순서대로 다시 적용
+ * - 배열은 교체만 하고 수정하지 않으므로(copy-on-write) 읽기는 락 없음, 쓰기는 직렬화
+ */
+public class PostingListIndex<K> {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<K, long[]> postIdsByKey = new ConcurrentHashMap<>();
+    // 구성 중에 커밋된 변경 (구성 완료 후 순서대로 다시 적용)
+    private final List<Runnable> pendingDuringBuild = new ArrayList<>();
+    private volatile boolean ready;
+
+    /**
+     * 청크를 끝까지 읽어 색인 구성
+     * @param chunkLoader 마지막으로 읽은 행 id 다음부터 한 청크 조회 (행의 [0]은 id 순으로 정렬된 행 id)
+     * @param keyOf       행 -> key
+     * @param postIdOf    행 -> 게시글 id
+     * @return 읽은 행 수
+     */
+    public long build(LongFunction<List<Object[]>> chunkLoader,
+                      Function<Object[], K> keyOf, ToLongFunction<Object[]> postIdOf) {
+        Map<K, PostingLists.Builder> building = new HashMap<>();
+        long lastId = 0L;
+        long total = 0L;
+
+        while (true) {
+            List<Object[]> rows = chunkLoader.apply(lastId);
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                building.computeIfAbsent(keyOf.apply(row), key -> new PostingLists.Builder())
+                        .add(postIdOf.applyAsLong(row));
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+            total += rows.size();
+        }
+
+        synchronized (this) {
+            postIdsByKey.clear();
+            building.forEach((key, list) -> postIdsByKey.put(key, list.build()));
+            pendingDuringBuild.forEach(Runnable::run);
+            pendingDuringBuild.clear();
+            ready = true;
+        }
+        return total;
+    }
+
+    public boolean ready() {
+        return ready;
+    }
+
+    public int size() {
+        return postIdsByKey.size();
+    }
+
+    /**
+     * key의 게시글 id (오름차순, 반환 배열은 수정 금지)
+     */
+    public long[] get(K key) {
+        return postIdsByKey.getOrDefault(key, EMPTY);
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 변경 반영 (트랜잭션이 없으면 즉시)
+     * - change 안에서 add / remove / removeKey 호출
+     */
+    public void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    public void add(K key, long postId) {
+        postIdsByKey.compute(key, (k, ids) -> PostingLists.insert(ids == null ? EMPTY : ids, postId));
+    }
+
+    public void remove(K key, long postId) {
+        postIdsByKey.computeIfPresent(key, (k, ids) -> {
+            long[] next = PostingLists.remove(ids, postId);
+            return next.length == 0 ? null : next;
+        });
+    }
+
+    public void removeKey(K key) {
+        postIdsByKey.remove(key);
+    }
+
+    private synchronized void apply(Runnable change) {
+        if (!ready) {
+            pendingDuringBuild.add(change);
+            return;
+        }
+        change.run();
+    }
+}
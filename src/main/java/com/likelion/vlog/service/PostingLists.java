@@ -0,0 +1,176 @@
+package com.likelion.vlog.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 오름차순 정렬된 id 배열(posting list) 집합 연산
+ * - 입력 배열은 중복 없는 오름차순이어야 하며 수정하지 않음
+ * - 결과도 중복 없는 오름차순 배열
+ */
+public final class PostingLists {
+
+    private static final long[] EMPTY = new long[0];
+
+    private PostingLists() {
+    }
+
+    /**
+     * 교집합 (AND)
+     * - 짧은 목록부터 차례로 교차하여 중간 결과를 최소화, 비면 즉시 종료
+     */
+    public static long[] intersectAll(List<long[]> lists) {
+        if (lists.isEmpty()) {
+            return EMPTY;
+        }
+        long[][] sorted = lists.toArray(long[][]::new);
+        Arrays.sort(sorted, Comparator.comparingInt(list -> list.length));
+
+        long[] result = sorted[0];
+        for (int i = 1; i < sorted.length && result.length > 0; i++) {
+            result = intersect(result, sorted[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 두 목록의 교집합 (galloping search)
+     * - 짧은 목록의 각 값을 긴 목록에서 1, 2, 4, 8... 간격으로 건너뛰며 범위를 찾은 뒤 이진 탐색
+     * - 길이 차이가 클수록 유리: O(m log(n/m)), m = 짧은 목록 길이
+     */
+    public static long[] intersect(long[] a, long[] b) {
+        long[] small = a.length <= b.length ? a : b;
+        long[] large = a.length <= b.length ? b : a;
+        long[] result = new long[small.length];
+        int size = 0;
+        int from = 0;
+
+        for (long value : small) {
+            from = gallop(large, from, value);
+            if (from >= large.length) {
+                break;
+            }
+            if (large[from] == value) {
+                result[size++] = value;
+                from++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 합집합 (OR)
+     * - 각 목록의 현재 위치를 최소 힙에 넣고 가장 작은 값부터 꺼내는 k-way merge (중복 제거)
+     */
+    public static long[] union(List<long[]> lists) {
+        if (lists.isEmpty()) {
+            return EMPTY;
+        }
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+
+        int total = 0;
+        // 힙 원소: {목록 번호, 목록 내 위치}
+        PriorityQueue<int[]> heap = new PriorityQueue<>(lists.size(),
+                Comparator.comparingLong(cursor -> lists.get(cursor[0])[cursor[1]]));
+        for (int i = 0; i < lists.size(); i++) {
+            long[] list = lists.get(i);
+            total += list.length;
+            if (list.length > 0) {
+                heap.add(new int[]{i, 0});
+            }
+        }
+
+        long[] result = new long[total];
+        int size = 0;
+        while (!heap.isEmpty()) {
+            int[] cursor = heap.poll();
+            long[] list = lists.get(cursor[0]);
+            long value = list[cursor[1]];
+            if (size == 0 || result[size - 1] != value) {
+                result[size++] = value;
+            }
+            if (++cursor[1] < list.length) {
+                heap.add(cursor);
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * value를 추가한 새 목록 (이미 있으면 입력 배열 그대로 반환)
+     */
+    public static long[] insert(long[] list, long value) {
+        int pos = Arrays.binarySearch(list, value);
+        if (pos >= 0) {
+            return list;
+        }
+        int insertAt = -pos - 1;
+        long[] next = new long[list.length + 1];
+        System.arraycopy(list, 0, next, 0, insertAt);
+        next[insertAt] = value;
+        System.arraycopy(list, insertAt, next, insertAt + 1, list.length - insertAt);
+        return next;
+    }
+
+    /**
+     * value를 제거한 새 목록 (없으면 입력 배열 그대로 반환)
+     */
+    public static long[] remove(long[] list, long value) {
+        int pos = Arrays.binarySearch(list, value);
+        if (pos < 0) {
+            return list;
+        }
+        long[] next = new long[list.length - 1];
+        System.arraycopy(list, 0, next, 0, pos);
+        System.arraycopy(list, pos + 1, next, pos, list.length - pos - 1);
+        return next;
+    }
+
+    // from 이후에서 value 이상인 첫 위치 (없으면 list.length)
+    private static int gallop(long[] list, int from, long value) {
+        if (from >= list.length || list[from] >= value) {
+            return from;
+        }
+        int step = 1;
+        int low = from;
+        int high = from + step;
+        while (high < list.length && list[high] < value) {
+            low = high;
+            step <<= 1;
+            high = from + step;
+        }
+        int pos = Arrays.binarySearch(list, low + 1, Math.min(high + 1, list.length), value);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+
+    /**
+     * 색인 구성용 가변 long 배열 (순서 없이 추가 후 build()로 중복 없는 오름차순 목록 생성)
+     */
+    public static final class Builder {
+        private long[] values = new long[8];
+        private int size;
+
+        public void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        public long[] build() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+            return Arrays.copyOf(sorted, distinct);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.entity.Tag;
+import com.likelion.vlog.repository.TagRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 인터닝 (태그명 -> 태그 id 메모리 캐시)
+ * - 시작 시 tags 전체로 캐시를 채우고, 이후 자주 쓰는 태그는 DB 조회 없이 id 확인
+ * - 태그명은 앞뒤 공백 제거 + 연속 공백 하나로 정규화, 대소문자는 구분하지 않음
+ *   (tags.title 유니크 제약과 MySQL 기본 collation 기준을 맞추기 위함, 표시는 처음 저장된 이름)
+ * - 캐시에 없는 태그는 IN 조회 한 번, 그래도 없으면 생성
+ * - DB collation은 key()보다 넓게 같다고 볼 수 있음 (utf8mb4_0900_ai_ci: café = cafe, Straße = strasse)
+ *   -> 생성이 유니크 제약에 걸려 다른 표기의 태그가 조회되면 요청한 표기의 키로도 캐시 (같은 태그 id로 수렴)
+ * - 생성은 별도 트랜잭션(REQUIRES_NEW)으로 먼저 커밋: 동시에 같은 태그를 만들면 유니크 제약 위반 쪽이
+ *   이미 커밋된 태그를 다시 조회하여 같은 id로 수렴 (락 없음, 호출자에게 예외 없음)
+ * - 게시글 트랜잭션이 롤백되어도 생성된 태그는 남음 (공용 사전이므로 무해)
+ * - 게시글 트랜잭션 안에서 생성하면 요청 하나가 커넥션 두 개를 잡음 (동시 요청이 많으면 커넥션 풀 고갈)
+ *   -> 쓰기 경로는 트랜잭션 시작 전에 prepare()로 없는 태그를 먼저 만들고, 트랜잭션 안의 intern()은 캐시만 조회
+ */
+@Slf4j
+@Component
+public class TagInterner {
+
+    private final TagRepository tagRepository;
+    private final TransactionTemplate requiresNew;
+
+    // 정규화된 태그명(소문자) -> 태그
+    private final Map<String, InternedTag> tagsByKey = new ConcurrentHashMap<>();
+
+    public TagInterner(TagRepository tagRepository, PlatformTransactionManager transactionManager) {
+        this.tagRepository = tagRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public record InternedTag(Long id, String title) {
+    }
+
+    /**
+     * 기존 태그로 캐시 미리 채우기
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (Object[] row : tagRepository.findAllIdAndTitle()) {
+            cache((Long) row[0], (String) row[1]);
+        }
+        log.info("태그 캐시 구성 완료: {}개", tagsByKey.size());
+    }
+
+    /**
+     * 트랜잭션 밖에서 없는 태그를 미리 생성하여 캐시에 올림
+     * - 게시글 작성/수정/가져오기 트랜잭션을 열기 전에 호출
+     */
+    public void prepare(Collection<String> titles) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("트랜잭션 안에서 태그 준비가 호출되었습니다. 트랜잭션 시작 전에 호출해야 합니다.");
+        }
+        intern(titles);
+    }
+
+    /**
+     * 태그명 목록을 태그로 변환 (없으면 생성)
+     * - 정규화 후 같은 태그는 하나로 합치고, 빈 태그명은 제외 (입력 순서 유지)
+     */
+    public List<InternedTag> intern(Collection<String> titles) {
+        if (titles == null || titles.isEmpty()) {
+            return List.of();
+        }
+
+        // 정규화된 키 -> 정규화된 태그명 (입력 순서 유지, 중복 제거)
+        Map<String, String> requested = new LinkedHashMap<>();
+        for (String title : titles) {
+            String normalized = normalize(title);
+            if (!normalized.isEmpty()) {
+                requested.putIfAbsent(key(normalized), normalized);
+            }
+        }
+
+        List<String> missing = requested.entrySet().stream()
+                .filter(entry -> !tagsByKey.containsKey(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+        if (!missing.isEmpty()) {
+            tagRepository.findAllByTitleIn(missing).forEach(tag -> cache(tag.getId(), tag.getTitle()));
+            List<String> toCreate = missing.stream()
+                    .filter(title -> !tagsByKey.containsKey(key(title)))
+                    .toList();
+            if (!toCreate.isEmpty()) {
+                create(toCreate);
+            }
+        }
+
+        // 표기가 다른 요청이 같은 태그로 수렴할 수 있으므로 태그 id 기준으로도 중복 제거
+        Map<Long, InternedTag> result = new LinkedHashMap<>();
+        requested.keySet().forEach(key -> {
+            InternedTag tag = tagsByKey.get(key);
+            result.putIfAbsent(tag.id(), tag);
+        });
+        return new ArrayList<>(result.values());
+    }
+
+    /**
+     * 태그명 정규화 (앞뒤 공백 제거, 연속 공백은 하나로)
+     */
+    public static String normalize(String title) {
+        return title == null ? "" : title.trim().replaceAll("\\s+", " ");
+    }
+
+    // 없는 태그 생성: 한 번에 batch insert, 다른 요청과 충돌하면 태그별로 생성 또는 재조회
+    private void create(List<String> titles) {
+        try {
+            List<Tag> created = requiresNew.execute(status ->
+                    tagRepository.saveAllAndFlush(titles.stream().map(Tag::create).toList()));
+            created.forEach(tag -> cache(tag.getId(), tag.getTitle()));
+        } catch (DataIntegrityViolationException e) {
+            titles.forEach(this::insertOrFetch);
+        }
+    }
+
+    private void insertOrFetch(String title) {
+        try {
+            Tag tag = requiresNew.execute(status -> tagRepository.saveAndFlush(Tag.create(title)));
+            cache(tag.getId(), tag.getTitle());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 커밋한 태그를 새 트랜잭션에서 조회 (현재 트랜잭션의 스냅샷에는 보이지 않을 수 있음)
+            // collation상 같은 다른 표기가 조회될 수 있으므로 요청한 표기의 키로도 캐시
+            Tag tag = requiresNew.execute(status -> tagRepository.findByTitle(title))
+                    .orElseThrow(() -> e);
+            tagsByKey.putIfAbsent(key(title), cache(tag.getId(), tag.getTitle()));
+        }
+    }
+
+    private InternedTag cache(Long id, String title) {
+        return tagsByKey.computeIfAbsent(key(title), key -> new InternedTag(id, title));
+    }
+
+    /**
+     * 태그 비교 키 (정규화 + 소문자) - 같은 키의 태그명은 같은 태그
+     */
+    public static String key(String title) {
+        return normalize(title).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,51 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.request.PostPatchRequest;
+
+import java.util.List;
+
+/**
+ * 텍스트 변경(delta) 적용
+ * - 변경 위치는 모두 원본 기준, 위치 오름차순 + 겹치지 않아야 함
+ * - 원본을 앞에서부터 한 번만 훑으며 결과를 조립 (O(원본 길이 + 삽입 길이))
+ * - 범위를 벗어나거나 겹치는 변경, 서로게이트 쌍을 가르는 위치는 IllegalArgumentException (400 Bad Request)
+ */
+public final class TextDelta {
+
+    private TextDelta() {
+    }
+
+    public static String apply(String base, List<PostPatchRequest.Edit> edits) {
+        String source = base == null ? "" : base;
+        int insertLength = 0;
+        for (PostPatchRequest.Edit edit : edits) {
+            insertLength += edit.getInsert() == null ? 0 : edit.getInsert().length();
+        }
+        StringBuilder result = new StringBuilder(source.length() + insertLength);
+
+        int copied = 0;
+        for (PostPatchRequest.Edit edit : edits) {
+            int start = edit.getPosition();
+            int end = start + edit.getDelete();
+            if (start < copied || edit.getDelete() < 0 || end < start || end > source.length()) {
+                throw new IllegalArgumentException("잘못된 변경 범위입니다. position=" + start + ", delete=" + edit.getDelete());
+            }
+            if (splitsSurrogatePair(source, start) || splitsSurrogatePair(source, end)) {
+                throw new IllegalArgumentException("문자 중간을 변경할 수 없습니다. position=" + start);
+            }
+            result.append(source, copied, start);
+            if (edit.getInsert() != null) {
+                result.append(edit.getInsert());
+            }
+            copied = end;
+        }
+        result.append(source, copied, source.length());
+        return result.toString();
+    }
+
+    private static boolean splitsSurrogatePair(String text, int index) {
+        return index > 0 && index < text.length()
+                && Character.isHighSurrogate(text.charAt(index - 1))
+                && Character.isLowSurrogate(text.charAt(index));
+    }
+}
@@ -0,0 +1,248 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.likelion.vlog.entity.OutboxEvent;
+import com.likelion.vlog.entity.OutboxEventType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 인기 게시글 순위 (메모리, 시간 감쇠 점수)
+ * - 점수 = Σ 가중치 × e^(-λ × 경과 시간), λ = ln2 / half-life (조회 < 좋아요 < 댓글)
+ * - 감쇠는 기준 시각(landmark) 대비 e^(λ × (발생 시각 - landmark))로 가중해 더하는 방식으로 지연 적용
+ *   -> 시간이 흘러도 기존 점수를 다시 계산할 필요가 없고 순서도 바뀌지 않음 (지수가 커지면 기준 시각만 옮김)
+ * - 상위 capacity개만 유지 (가득 차면 가장 낮은 점수보다 큰 새 게시글만 들어오고 최하위는 제외)
+ * - 순위 조회는 메모리에서 (게시글 테이블을 다시 계산하지 않음)
+ * - checkpoint-interval-ms마다 / 종료 시 trending_scores에 저장, 시작 시 복원 (재시작해도 순위 유지)
+ * - 좋아요/좋아요 취소/댓글/댓글 삭제/게시글 삭제는 아웃박스 이벤트로 반영 (발생 시각 = 이벤트 occurredAt)
+ *   -> 재전달(at-least-once)된 이벤트는 점수가 한 번 더 더해질 수 있음 (근사 순위로 허용)
+ */
+@Slf4j
+@Component
+public class TrendingRanking implements OutboxEventListener {
+
+    private static final String DELETE_SQL = "DELETE FROM trending_scores";
+    private static final String INSERT_SQL =
+            "INSERT INTO trending_scores (post_id, score, checkpointed_at) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL = "SELECT post_id, score, checkpointed_at FROM trending_scores";
+    // λ × (now - landmark)가 이 값을 넘으면 기준 시각 이동 (e^50 ≈ 5e21, double 범위 내 여유)
+    private static final double MAX_EXPONENT = 50.0;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final double lambda;
+    private final int capacity;
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double commentWeight;
+
+    // 아래 필드는 this로 동기화
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> ranked = new TreeSet<>(
+            Comparator.comparingDouble((Entry entry) -> entry.score).reversed().thenComparingLong(entry -> entry.postId));
+    private long landmark = System.currentTimeMillis();
+
+    public TrendingRanking(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${vlog.post.trending.half-life:6h}") Duration halfLife,
+                           @Value("${vlog.post.trending.capacity:1000}") int capacity,
+                           @Value("${vlog.post.trending.weight.view:1}") double viewWeight,
+                           @Value("${vlog.post.trending.weight.like:5}") double likeWeight,
+                           @Value("${vlog.post.trending.weight.comment:10}") double commentWeight) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lambda = Math.log(2) / halfLife.toMillis();
+        this.capacity = capacity;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    public void viewed(Long postId) {
+        record(postId, viewWeight, System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean supports(OutboxEventType eventType) {
+        return switch (eventType) {
+            case LIKE_ADDED, LIKE_REMOVED, COMMENT_CREATED, COMMENT_DELETED, POST_DELETED -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event, JsonNode payload) {
+        long postId = event.getAggregateId();
+        long occurredAt = Timestamp.valueOf(event.getOccurredAt()).getTime();
+        switch (event.getEventType()) {
+            case LIKE_ADDED -> record(postId, likeWeight, occurredAt);
+            case LIKE_REMOVED -> record(postId, -likeWeight, occurredAt);
+            case COMMENT_CREATED -> record(postId, commentWeight, occurredAt);
+            case COMMENT_DELETED -> record(postId, -commentWeight, occurredAt);
+            case POST_DELETED -> remove(postId);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 순위에서 제거 (조회 시 게시글이 없는 id 정리용, 커밋 후 반영)
+     */
+    public void removed(Long postId) {
+        afterCommit(() -> remove(postId));
+    }
+
+    /**
+     * 순위 페이지 (점수 내림차순 게시글 id)
+     * @return 페이지 id 목록 + 순위에 있는 전체 게시글 수
+     */
+    public synchronized RankedPage page(long offset, int size) {
+        List<Long> postIds = new ArrayList<>(size);
+        Iterator<Entry> iterator = ranked.iterator();
+        for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        while (iterator.hasNext() && postIds.size() < size) {
+            postIds.add(iterator.next().postId);
+        }
+        return new RankedPage(postIds, ranked.size());
+    }
+
+    synchronized void record(long postId, double weight, long now) {
+        rebaseIfNeeded(now);
+        double delta = weight * Math.exp(lambda * (now - landmark));
+        Entry entry = entries.get(postId);
+        if (entry != null) {
+            ranked.remove(entry);
+            entry.score = Math.max(0.0, entry.score + delta);
+            ranked.add(entry);
+            return;
+        }
+        if (delta <= 0) {
+            return;
+        }
+        if (entries.size() >= capacity) {
+            Entry lowest = ranked.last();
+            if (lowest.score >= delta) {
+                return;
+            }
+            ranked.pollLast();
+            entries.remove(lowest.postId);
+        }
+        entry = new Entry(postId, delta);
+        entries.put(postId, entry);
+        ranked.add(entry);
+    }
+
+    synchronized void remove(long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry != null) {
+            ranked.remove(entry);
+        }
+    }
+
+    /**
+     * 시작 시 체크포인트 복원 (복원 전에 들어온 이벤트 점수와 합산)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<Object[]> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Object[]{
+                rs.getLong("post_id"), rs.getDouble("score"), rs.getTimestamp("checkpointed_at").getTime()});
+        // 체크포인트 점수를 체크포인트 시각에 발생한 가중치로 보고 더함 -> 이후 경과 시간만큼 자동으로 감쇠
+        for (Object[] row : rows) {
+            record((Long) row[0], (Double) row[1], (Long) row[2]);
+        }
+        log.info("인기 게시글 순위 복원: {}건", rows.size());
+    }
+
+    /**
+     * 현재 순위를 trending_scores에 저장 (전체 교체, 한 트랜잭션)
+     * - 실패하면 다음 주기에 다시 저장 (메모리 순위는 그대로 유지)
+     */
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${vlog.post.trending.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        long now = System.currentTimeMillis();
+        List<Object[]> batchArgs = new ArrayList<>();
+        synchronized (this) {
+            double decay = Math.exp(-lambda * (now - landmark));
+            Timestamp checkpointedAt = new Timestamp(now);
+            for (Entry entry : ranked) {
+                batchArgs.add(new Object[]{entry.postId, entry.score * decay, checkpointedAt});
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_SQL);
+                if (!batchArgs.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+                }
+            });
+            log.debug("인기 게시글 순위 저장: {}건", batchArgs.size());
+        } catch (DataAccessException e) {
+            log.warn("인기 게시글 순위 저장 실패, 다음 주기에 재시도합니다.", e);
+        }
+    }
+
+    // 지수가 커지면 모든 점수를 현재 기준으로 환산하고 기준 시각 이동 (순서는 그대로)
+    private void rebaseIfNeeded(long now) {
+        if (lambda * (now - landmark) <= MAX_EXPONENT) {
+            return;
+        }
+        double decay = Math.exp(-lambda * (now - landmark));
+        List<Entry> all = new ArrayList<>(ranked);
+        ranked.clear();
+        for (Entry entry : all) {
+            entry.score *= decay;
+            ranked.add(entry);
+        }
+        landmark = now;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    public record RankedPage(List<Long> postIds, long total) {
+    }
+
+    private static final class Entry {
+        private final long postId;
+        private double score;   // landmark 기준 가중 점수
+
+        Entry(long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+    }
+}
@@ -18,14 +18,14 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
 
     public UserDto getUser(Long userId){
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
         return UserDto.of(user);
     }
 
     @Transactional
     public UserDto updateUser(Long userId, UserUpdateRequestDto userUpdateRequestDto) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
 
         user.upDateInfo(userUpdateRequestDto, passwordEncoder);
@@ -35,15 +35,20 @@ public class UserService {
     }
 
 
+    /**
+     * 회원 탈퇴
+     * - 계정만 탈퇴 처리(tombstone)하고 바로 반환, 이후 로그인/조회 불가
+     * - 게시글/댓글/좋아요/팔로우와 계정 삭제는 AccountPurger가 백그라운드에서 청크 단위로 진행
+     */
     @Transactional
     public void deleteUser(Long userId, String password) {
-        User user = userRepository.findById(userId)
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
 
         if (!passwordEncoder.matches(password, user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
-        userRepository.delete(user);
+        user.tombstone();
     }
 
 }
@@ -1,15 +1,28 @@
 package com.likelion.vlog.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.dto.common.TagFilter;
+import com.likelion.vlog.dto.request.PostBulkDeleteRequest;
 import com.likelion.vlog.dto.request.PostCreateRequest;
+import com.likelion.vlog.dto.request.PostPatchRequest;
 import com.likelion.vlog.dto.request.PostUpdateRequest;
 import com.likelion.vlog.dto.response.AuthorResponse;
+import com.likelion.vlog.dto.response.LikeResponse;
+import com.likelion.vlog.dto.response.PostBulkDeleteResponse;
+import com.likelion.vlog.dto.response.PostPatchResponse;
 import com.likelion.vlog.dto.response.PostResponse;
+import com.likelion.vlog.exception.ConflictException;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.GlobalExceptionHandler;
 import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.PostVersion;
 import com.likelion.vlog.service.AuthService;
+import com.likelion.vlog.service.LikeService;
+import com.likelion.vlog.service.PostBulkDeleteService;
+import com.likelion.vlog.service.PostLiveHub;
 import com.likelion.vlog.service.PostService;
+import com.likelion.vlog.service.PostViewCounter;
+import com.likelion.vlog.service.TagInterner;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,6 +31,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -28,6 +42,9 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -50,9 +67,27 @@ class PostControllerTest {
     @MockBean
     private AuthService authService;
 
+    @MockBean
+    private PostViewCounter postViewCounter;
+
+    @MockBean
+    private PostBulkDeleteService postBulkDeleteService;
+
+    @MockBean
+    private PostLiveHub postLiveHub;
+
+    @MockBean
+    private LikeService likeService;
+
+    @MockBean
+    private TagInterner tagInterner;
+
     @MockBean
     private org.springframework.data.jpa.mapping.JpaMetamodelMappingContext jpaMetamodelMappingContext;
 
+    private static final PostVersion VERSION =
+            new PostVersion(1L, LocalDateTime.of(2026, 1, 1, 12, 0), 3L, 2L);
+
     @Nested
     @DisplayName("게시글 상세 조회 API")
     class GetPost {
@@ -62,27 +97,113 @@ class PostControllerTest {
         void getPost_Success() throws Exception {
             // given
             PostResponse response = createPostResponse(1L, "테스트 제목", "테스트 내용");
+            given(postService.getPostVersion(1L)).willReturn(VERSION);
             given(postService.getPost(1L)).willReturn(response);
 
             // when & then
             mockMvc.perform(get("/api/v1/posts/1"))
                     .andDo(print())
                     .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, VERSION.etag("1")))
+                    .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
                     .andExpect(jsonPath("$.postId").value(1))
                     .andExpect(jsonPath("$.title").value("테스트 제목"))
                     .andExpect(jsonPath("$.content").value("테스트 내용"));
+
+            verify(postViewCounter).record(eq(1L), anyString());
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 조회 없이 304")
+        void getPost_NotModified() throws Exception {
+            // given
+            given(postService.getPostVersion(1L)).willReturn(VERSION);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/posts/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, VERSION.etag("1")))
+                    .andDo(print())
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            verify(postService, never()).getPost(any());
+            verify(postViewCounter).record(eq(1L), anyString());
+        }
+
+        @Test
+        @DisplayName("If-Modified-Since가 수정 시각 이후면 304")
+        void getPost_NotModifiedSince() throws Exception {
+            // given
+            given(postService.getPostVersion(1L)).willReturn(VERSION);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/posts/1")
+                            .header(HttpHeaders.IF_MODIFIED_SINCE, VERSION.lastModifiedMillis()))
+                    .andDo(print())
+                    .andExpect(status().isNotModified());
+
+            verify(postService, never()).getPost(any());
+        }
+
+        @Test
+        @DisplayName("ETag가 다르면 200으로 본문 응답")
+        void getPost_Modified() throws Exception {
+            // given
+            given(postService.getPostVersion(1L)).willReturn(VERSION);
+            given(postService.getPost(1L)).willReturn(createPostResponse(1L, "테스트 제목", "테스트 내용"));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/posts/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, "\"1-old\""))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.postId").value(1));
         }
 
         @Test
         @DisplayName("존재하지 않는 게시글 조회 시 404")
         void getPost_NotFound() throws Exception {
             // given
-            given(postService.getPost(999L)).willThrow(NotFoundException.post(999L));
+            given(postService.getPostVersion(999L)).willThrow(NotFoundException.post(999L));
 
             // when & then
             mockMvc.perform(get("/api/v1/posts/999"))
                     .andDo(print())
                     .andExpect(status().isNotFound());
+
+            verifyNoInteractions(postViewCounter);
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 목록 조회 API")
+    class GetPosts {
+
+        @Test
+        @DisplayName("목록 버전이 같으면 목록 조회 없이 304")
+        void getPosts_NotModified() throws Exception {
+            // given
+            given(postService.getPostsByTagsVersion(eq(TagFilter.of(List.of("Spring"), null)), isNull())).willReturn(VERSION);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/posts")
+                            .param("tag", "Spring")
+                            .header(HttpHeaders.IF_NONE_MATCH, VERSION.etag("posts")))
+                    .andDo(print())
+                    .andExpect(status().isNotModified());
+
+            verify(postService, never()).getPostsByTags(any(TagFilter.class), any(), any());
+        }
+
+        @Test
+        @DisplayName("잘못된 태그 검색 모드는 400")
+        void getPosts_InvalidMode() throws Exception {
+            // when & then
+            mockMvc.perform(get("/api/v1/posts")
+                            .param("tag", "Spring", "JPA")
+                            .param("mode", "xor"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
         }
     }
 
@@ -110,6 +231,7 @@ class PostControllerTest {
                     .andExpect(status().isCreated())
                     .andExpect(jsonPath("$.postId").value(1))
                     .andExpect(jsonPath("$.title").value("새 게시글"));
+            verify(tagInterner).prepare(List.of());
         }
 
         // Note: 인증 테스트는 Security 필터가 비활성화된 상태에서 테스트 불가
@@ -157,6 +279,126 @@ class PostControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("좋아요 API")
+    class Like {
+
+        @Test
+        @WithMockUser(username = "test@test.com")
+        @DisplayName("좋아요 후 상태와 좋아요 수 반환")
+        void like_Success() throws Exception {
+            // given
+            given(likeService.like(1L, "test@test.com")).willReturn(LikeResponse.of(1L, true, 4));
+
+            // when & then
+            mockMvc.perform(put("/api/v1/posts/1/like")
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.liked").value(true))
+                    .andExpect(jsonPath("$.likeCount").value(4));
+        }
+
+        @Test
+        @WithMockUser(username = "test@test.com")
+        @DisplayName("좋아요 취소 후 상태와 좋아요 수 반환")
+        void unlike_Success() throws Exception {
+            // given
+            given(likeService.unlike(1L, "test@test.com")).willReturn(LikeResponse.of(1L, false, 3));
+
+            // when & then
+            mockMvc.perform(delete("/api/v1/posts/1/like")
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.liked").value(false))
+                    .andExpect(jsonPath("$.likeCount").value(3));
+        }
+
+        @Test
+        @WithMockUser(username = "test@test.com")
+        @DisplayName("게시글이 없으면 404")
+        void like_PostNotFound() throws Exception {
+            // given
+            given(likeService.like(999L, "test@test.com")).willThrow(NotFoundException.post(999L));
+
+            // when & then
+            mockMvc.perform(put("/api/v1/posts/999/like")
+                            .with(csrf()))
+                    .andDo(print())
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 본문 부분 수정 API")
+    class PatchPost {
+
+        @Test
+        @WithMockUser(username = "test@test.com")
+        @DisplayName("본문 부분 수정 성공 시 새 버전 반환")
+        void patchPost_Success() throws Exception {
+            // given
+            given(postService.patchPost(eq(1L), any(PostPatchRequest.class), eq("test@test.com")))
+                    .willReturn(PostPatchResponse.builder().postId(1L).version(4L).contentLength(10).build());
+
+            // when & then
+            mockMvc.perform(patch("/api/v1/posts/1")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"baseVersion\":3,\"edits\":[{\"position\":0,\"delete\":0,\"insert\":\"a\"}]}"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.version").value(4))
+                    .andExpect(jsonPath("$.contentLength").value(10));
+        }
+
+        @Test
+        @WithMockUser(username = "test@test.com")
+        @DisplayName("기준 버전이 다르면 409")
+        void patchPost_Conflict() throws Exception {
+            // given
+            given(postService.patchPost(eq(1L), any(PostPatchRequest.class), eq("test@test.com")))
+                    .willThrow(ConflictException.postVersion(1L, 5L));
+
+            // when & then
+            mockMvc.perform(patch("/api/v1/posts/1")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"baseVersion\":3,\"edits\":[{\"position\":0,\"delete\":1}]}"))
+                    .andDo(print())
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @WithMockUser(username = "test@test.com")
+        @DisplayName("기준 버전이 없으면 400")
+        void patchPost_MissingBaseVersion() throws Exception {
+            // when & then
+            mockMvc.perform(patch("/api/v1/posts/1")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"edits\":[{\"position\":0,\"delete\":1}]}"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+            verifyNoInteractions(postService);
+        }
+
+        @Test
+        @WithMockUser(username = "test@test.com")
+        @DisplayName("변경 목록에 null 항목이 있으면 400")
+        void patchPost_NullEdit() throws Exception {
+            // when & then
+            mockMvc.perform(patch("/api/v1/posts/1")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"baseVersion\":3,\"edits\":[null]}"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+            verifyNoInteractions(postService);
+        }
+    }
+
     @Nested
     @DisplayName("게시글 삭제 API")
     class DeletePost {
@@ -186,6 +428,43 @@ class PostControllerTest {
                     .andDo(print())
                     .andExpect(status().isForbidden());
         }
+
+        @Test
+        @WithMockUser(username = "test@test.com")
+        @DisplayName("게시글 일괄 삭제 성공")
+        void deletePosts_Success() throws Exception {
+            // given
+            given(postBulkDeleteService.deletePosts(any(PostBulkDeleteRequest.class), eq("test@test.com")))
+                    .willReturn(PostBulkDeleteResponse.of(3, 3, 0));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/posts/bulk-delete")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"postIds\":[1,2,3]}"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.requested").value(3))
+                    .andExpect(jsonPath("$.deleted").value(3))
+                    .andExpect(jsonPath("$.failed").value(0));
+        }
+
+        @Test
+        @WithMockUser(username = "test@test.com")
+        @DisplayName("postIds와 blogId를 함께 지정하면 400")
+        void deletePosts_InvalidTarget() throws Exception {
+            // given
+            given(postBulkDeleteService.deletePosts(any(PostBulkDeleteRequest.class), eq("test@test.com")))
+                    .willThrow(new IllegalArgumentException("postIds 또는 blogId 중 하나만 지정해야 합니다."));
+
+            // when & then
+            mockMvc.perform(post("/api/v1/posts/bulk-delete")
+                            .with(csrf())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"postIds\":[1],\"blogId\":1}"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     // 헬퍼 메서드
@@ -0,0 +1,56 @@
+package com.likelion.vlog.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostExcerptTest {
+
+    @Test
+    @DisplayName("마크다운 문법과 연속 공백 제거")
+    void from_StripsMarkdown() {
+        // given
+        String content = "# 제목\n\n**굵게** 그리고 [링크](https://vlog.com) ![그림](a.png)\n"
+                + "```java\nint x = 1;\n```\n> 인용\n- 목록 snake_case";
+
+        // when
+        String excerpt = PostExcerpt.from(content);
+
+        // then
+        assertThat(excerpt).isEqualTo("제목 굵게 그리고 링크 그림 인용 목록 snake_case");
+    }
+
+    @Test
+    @DisplayName("100자 초과 시 코드 포인트 기준으로 자르고 ... 추가")
+    void from_CutsByCodePoint() {
+        // given
+        String content = "😀".repeat(150);
+
+        // when
+        String excerpt = PostExcerpt.from(content);
+
+        // then
+        assertThat(excerpt).isEqualTo("😀".repeat(PostExcerpt.MAX_LENGTH) + "...");
+    }
+
+    @Test
+    @DisplayName("100자 이하면 그대로 반환")
+    void from_ShortContent() {
+        assertThat(PostExcerpt.from("짧은 내용")).isEqualTo("짧은 내용");
+        assertThat(PostExcerpt.from(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글 작성/수정 시 요약 저장")
+    void post_StoresExcerpt() {
+        // given
+        Post post = Post.create("제목", "**처음** 내용", null);
+
+        // when
+        post.update("제목", "## 수정된 내용");
+
+        // then
+        assertThat(post.getExcerpt()).isEqualTo("수정된 내용");
+    }
+}
@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -153,6 +155,93 @@ class CommentRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("게시글 일괄 삭제")
+    class DeleteByPostIds {
+
+        @Test
+        @DisplayName("대댓글 연결 해제 후 게시글들의 댓글을 한 번에 삭제")
+        void deleteAllByPostIds_Success() {
+            // given
+            Post post2 = Post.create("테스트 글 2", "내용 2", blog);
+            em.persist(post2);
+
+            Comment parent = Comment.create(user, post, "부모 댓글");
+            em.persist(parent);
+            em.persist(Comment.createReply(user, post, parent, "대댓글"));
+            em.persist(Comment.create(user, post2, "다른 글 댓글"));
+            em.flush();
+            em.clear();
+
+            // when
+            int detached = commentRepository.detachRepliesByPostIds(List.of(post.getId()));
+            int deleted = commentRepository.deleteAllByPostIds(List.of(post.getId()));
+
+            // then
+            assertThat(detached).isEqualTo(1);
+            assertThat(deleted).isEqualTo(2);
+            assertThat(commentRepository.findAll()).extracting(Comment::getContent).containsExactly("다른 글 댓글");
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 커서 페이징")
+    class CursorPaging {
+
+        @Test
+        @DisplayName("최상위 댓글을 (createdAt, id) 이후부터 작성순으로 조회")
+        void findRootsByPostIdAfter_Success() {
+            // given
+            Comment first = Comment.create(user, post, "댓글 1");
+            em.persist(first);
+            em.persist(Comment.createReply(user, post, first, "대댓글"));
+            em.persist(Comment.create(user, post, "댓글 2"));
+            em.persist(Comment.create(user, post, "댓글 3"));
+            em.flush();
+            em.clear();
+
+            // when
+            Slice<Comment> page1 = commentRepository.findRootsByPostId(post.getId(), PageRequest.of(0, 2));
+            Comment last = page1.getContent().get(1);
+            Slice<Comment> page2 = commentRepository.findRootsByPostIdAfter(
+                    post.getId(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+            // then
+            assertThat(page1.getContent()).extracting(Comment::getContent).containsExactly("댓글 1", "댓글 2");
+            assertThat(page1.hasNext()).isTrue();
+            assertThat(page2.getContent()).extracting(Comment::getContent).containsExactly("댓글 3");
+            assertThat(page2.hasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("부모별 앞쪽 대댓글 limit개와 대댓글 수 조회")
+        void findFirstReplyIdsByParentIds_Success() {
+            // given
+            Comment parent1 = Comment.create(user, post, "부모 1");
+            Comment parent2 = Comment.create(user, post, "부모 2");
+            em.persist(parent1);
+            em.persist(parent2);
+            Comment reply1 = Comment.createReply(user, post, parent1, "대댓글 1-1");
+            Comment reply2 = Comment.createReply(user, post, parent1, "대댓글 1-2");
+            Comment reply3 = Comment.createReply(user, post, parent2, "대댓글 2-1");
+            em.persist(reply1);
+            em.persist(reply2);
+            em.persist(Comment.createReply(user, post, parent1, "대댓글 1-3"));
+            em.persist(reply3);
+            em.flush();
+            em.clear();
+            List<Long> parentIds = List.of(parent1.getId(), parent2.getId());
+
+            // when
+            List<Long> replyIds = commentRepository.findFirstReplyIdsByParentIds(parentIds, 2);
+            List<Object[]> counts = commentRepository.countRepliesByParentIds(parentIds);
+
+            // then
+            assertThat(replyIds).containsExactlyInAnyOrder(reply1.getId(), reply2.getId(), reply3.getId());
+            assertThat(counts).extracting(row -> row[1]).containsExactlyInAnyOrder(3L, 1L);
+        }
+    }
+
     // 테스트 헬퍼 메서드
     private User createTestUser(String email, String nickname) {
         try {
@@ -0,0 +1,91 @@
+package com.likelion.vlog.repository;
+
+import com.likelion.vlog.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class LikeRepositoryTest {
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        user = createTestUser("test@test.com", "테스터");
+        em.persist(user);
+
+        post = Post.create("테스트 글", "테스트 내용", user.getBlog());
+        em.persist(post);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    @DisplayName("좋아요 / 좋아요 취소")
+    class Toggle {
+
+        @Test
+        @DisplayName("같은 사용자의 중복 좋아요는 무시")
+        void insertIfAbsent_Idempotent() {
+            // when
+            boolean first = likeRepository.insertIfAbsent(user.getId(), post.getId(), LocalDateTime.now());
+            boolean second = likeRepository.insertIfAbsent(user.getId(), post.getId(), LocalDateTime.now());
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(likeRepository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("좋아요 취소는 한 번만 삭제")
+        void deleteByUserIdAndPostId_Idempotent() {
+            // given
+            likeRepository.insertIfAbsent(user.getId(), post.getId(), LocalDateTime.now());
+
+            // when
+            int first = likeRepository.deleteByUserIdAndPostId(user.getId(), post.getId());
+            int second = likeRepository.deleteByUserIdAndPostId(user.getId(), post.getId());
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            assertThat(likeRepository.count()).isZero();
+        }
+    }
+
+    // 테스트 헬퍼 메서드
+    private User createTestUser(String email, String nickname) {
+        try {
+            java.lang.reflect.Constructor<User> constructor = User.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            User user = constructor.newInstance();
+            ReflectionTestUtils.setField(user, "email", email);
+            ReflectionTestUtils.setField(user, "nickname", nickname);
+            ReflectionTestUtils.setField(user, "password", "password");
+            return user;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -157,6 +158,93 @@ class PostRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("목록 프로젝션 조회")
+    class FindSummaries {
+
+        @Test
+        @DisplayName("태그 필터 프로젝션 조회 시 작성자 정보 포함")
+        void findSummariesByTagName_Success() {
+            // given
+            springTag = em.find(Tag.class, springTag.getId());
+
+            Post post1 = Post.create("Spring 글", "내용1", blog);
+            Post post2 = Post.create("태그 없는 글", "내용2", blog);
+            em.persist(post1);
+            em.persist(post2);
+            em.persist(TagMap.create(post1, springTag));
+            em.flush();
+            em.clear();
+
+            // when
+            Page<PostSummary> result = postRepository.findSummariesByTagName("Spring", PageRequest.of(0, 10));
+
+            // then
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            PostSummary summary = result.getContent().get(0);
+            assertThat(summary.title()).isEqualTo("Spring 글");
+            assertThat(summary.authorNickname()).isEqualTo("테스터");
+        }
+
+        @Test
+        @DisplayName("커서 이전 게시글만 최신순으로 조회")
+        void findSummariesBefore_Success() {
+            // given
+            Post post1 = Post.create("제목1", "내용1", blog);
+            Post post2 = Post.create("제목2", "내용2", blog);
+            Post post3 = Post.create("제목3", "내용3", blog);
+            em.persist(post1);
+            em.persist(post2);
+            em.persist(post3);
+            em.flush();
+            em.clear();
+
+            // when
+            Slice<PostSummary> result = postRepository.findSummariesBefore(post3.getId(), PageRequest.of(0, 1));
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().get(0).postId()).isEqualTo(post2.getId());
+            assertThat(result.hasNext()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 GET용 버전 조회")
+    class FindVersion {
+
+        @Test
+        @DisplayName("필터 조건의 게시글 수와 최대 수정 시각 조회")
+        void findVersionByTagName_Success() {
+            // given
+            Post post1 = Post.create("Spring 글", "내용", blog);
+            Post post2 = Post.create("JPA 글", "내용", blog);
+            em.persist(post1);
+            em.persist(post2);
+            em.persist(TagMap.create(post1, springTag));
+            em.flush();
+            em.clear();
+
+            // when
+            PostVersion version = postRepository.findVersionByTagName("Spring");
+
+            // then
+            assertThat(version.count()).isEqualTo(1L);
+            assertThat(version.lastModified()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 게시글은 count 0")
+        void findVersionById_NotFound() {
+            // when
+            PostVersion version = postRepository.findVersionById(999L);
+
+            // then
+            assertThat(version.exists()).isFalse();
+            assertThat(version.lastModifiedMillis()).isEqualTo(-1);
+        }
+    }
+
     // 테스트 헬퍼 메서드
     private User createTestUser(String email, String nickname) {
         try {
@@ -0,0 +1,167 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.entity.OutboxEventType;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.repository.CommentRepository;
+import com.likelion.vlog.repository.FollowRepository;
+import com.likelion.vlog.repository.LikeRepository;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountPurgerTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private LikeRepository likeRepository;
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private PostService postService;
+    @Mock
+    private PostCounterService postCounterService;
+    @Mock
+    private PostLiveHub postLiveHub;
+    @Mock
+    private PostLikeIndex postLikeIndex;
+    @Mock
+    private OutboxPublisher outboxPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AccountPurger accountPurger;
+
+    @BeforeEach
+    void setUp() {
+        accountPurger = new AccountPurger(userRepository, postRepository, commentRepository, likeRepository,
+                followRepository, postService, postCounterService, postLiveHub, postLikeIndex, outboxPublisher,
+                transactionManager, meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("게시글이 남아 있으면 게시글 청크 하나만 삭제")
+    void purgeChunk_Posts() {
+        // given
+        given(postRepository.findIdsByUserId(eq(1L), any(Pageable.class))).willReturn(List.of(10L, 11L));
+
+        // when
+        AccountPurger.Step step = accountPurger.purgeChunk(1L);
+
+        // then
+        assertThat(step).isEqualTo(AccountPurger.Step.POSTS);
+        verify(postService).deletePosts(List.of(10L, 11L));
+        verifyNoInteractions(commentRepository, likeRepository, followRepository);
+        assertThat(meterRegistry.get("vlog.account.purge.deleted").tag("step", "posts").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 작성한 댓글 삭제 (대댓글 연결 해제, 댓글 수 감소, 삭제 이벤트 + 실시간 전송)")
+    void purgeChunk_Comments() {
+        // given
+        given(postRepository.findIdsByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(commentRepository.findIdAndPostIdByUserId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(new Object[]{5L, 20L}, new Object[]{6L, 21L}));
+
+        // when
+        AccountPurger.Step step = accountPurger.purgeChunk(1L);
+
+        // then
+        assertThat(step).isEqualTo(AccountPurger.Step.COMMENTS);
+        verify(commentRepository).detachRepliesByParentIds(List.of(5L, 6L));
+        verify(commentRepository).deleteAllByIdInBatch(List.of(5L, 6L));
+        verify(postCounterService).commentRemoved(20L);
+        verify(postCounterService).commentRemoved(21L);
+        verify(outboxPublisher).append(OutboxEventType.COMMENT_DELETED, 20L, Map.of("postId", 20L, "commentId", 5L));
+        verify(outboxPublisher).append(OutboxEventType.COMMENT_DELETED, 21L, Map.of("postId", 21L, "commentId", 6L));
+        verify(postLiveHub).countersChanged(20L);
+        verify(postLiveHub).countersChanged(21L);
+        verifyNoInteractions(likeRepository);
+    }
+
+    @Test
+    @DisplayName("댓글이 없으면 누른 좋아요 삭제 (좋아요 수 감소, 취소 이벤트, 게시글마다 실시간 전송 한 번)")
+    void purgeChunk_Likes() {
+        // given
+        given(postRepository.findIdsByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(commentRepository.findIdAndPostIdByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(likeRepository.findIdAndPostIdByUserId(eq(1L), any(Pageable.class)))
+                .willReturn(List.of(new Object[]{7L, 30L}, new Object[]{8L, 31L}));
+
+        // when
+        AccountPurger.Step step = accountPurger.purgeChunk(1L);
+
+        // then
+        assertThat(step).isEqualTo(AccountPurger.Step.LIKES);
+        verify(likeRepository).deleteAllByIdInBatch(List.of(7L, 8L));
+        verify(postCounterService).likeRemoved(30L);
+        verify(postCounterService).likeRemoved(31L);
+        verify(outboxPublisher).append(OutboxEventType.LIKE_REMOVED, 30L, Map.of("postId", 30L, "userId", 1L));
+        verify(outboxPublisher).append(OutboxEventType.LIKE_REMOVED, 31L, Map.of("postId", 31L, "userId", 1L));
+        verify(postLiveHub).countersChanged(30L);
+        verify(postLiveHub).countersChanged(31L);
+        verifyNoInteractions(followRepository);
+    }
+
+    @Test
+    @DisplayName("남은 데이터가 없으면 계정 삭제")
+    void purgeChunk_Account() throws Exception {
+        // given
+        java.lang.reflect.Constructor<User> constructor = User.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        User user = constructor.newInstance();
+        given(postRepository.findIdsByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(commentRepository.findIdAndPostIdByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(likeRepository.findIdAndPostIdByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(followRepository.findIdsByUserId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+
+        // when
+        AccountPurger.Step step = accountPurger.purgeChunk(1L);
+
+        // then
+        assertThat(step).isEqualTo(AccountPurger.Step.ACCOUNT);
+        verify(userRepository).delete(user);
+        verify(postLikeIndex).removeUser(1L);
+    }
+
+    @Test
+    @DisplayName("대기 계정이 없으면 아무것도 하지 않음")
+    void purgeNextChunk_NoPending() {
+        // given
+        given(userRepository.findTombstonedIds(any(Pageable.class))).willReturn(List.of());
+
+        // when
+        accountPurger.purgeNextChunk();
+
+        // then
+        verifyNoInteractions(postRepository, postService);
+        assertThat(meterRegistry.get("vlog.account.purge.pending").gauge().value()).isZero();
+    }
+}
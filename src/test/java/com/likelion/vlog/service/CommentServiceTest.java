@@ -0,0 +1,227 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.common.Cursor;
+import com.likelion.vlog.dto.response.CommentResponse;
+import com.likelion.vlog.dto.response.CommentThreadResponse;
+import com.likelion.vlog.dto.response.CursorPageResponse;
+import com.likelion.vlog.entity.Comment;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.CommentRepository;
+import com.likelion.vlog.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private CommentService commentService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        user = createInstance(User.class);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(user, "nickname", "테스터");
+    }
+
+    @Nested
+    @DisplayName("댓글 트리 조회")
+    class GetCommentTree {
+
+        @Test
+        @DisplayName("한 번 조회한 댓글 목록으로 중첩 트리 조립")
+        void getCommentTree_Success() {
+            // given
+            given(postRepository.existsById(1L)).willReturn(true);
+            given(commentRepository.findAllWithUserByPostId(1L)).willReturn(List.of(
+                    comment(1L, null), comment(2L, 1L), comment(3L, null), comment(4L, 2L), comment(5L, 1L)));
+
+            // when
+            List<CommentResponse> tree = commentService.getCommentTree(1L, CommentService.DEFAULT_MAX_DEPTH);
+
+            // then
+            assertThat(tree).extracting(CommentResponse::getCommentId).containsExactly(1L, 3L);
+            assertThat(tree.get(0).getReplies()).extracting(CommentResponse::getCommentId).containsExactly(2L, 5L);
+            assertThat(tree.get(0).getReplies().get(0).getReplies())
+                    .extracting(CommentResponse::getCommentId).containsExactly(4L);
+            assertThat(tree.get(0).getAuthor().getNickname()).isEqualTo("테스터");
+        }
+
+        @Test
+        @DisplayName("maxDepth보다 깊은 대댓글은 maxDepth 단계 조상 아래로 평탄화")
+        void getCommentTree_MaxDepth() {
+            // given
+            given(postRepository.existsById(1L)).willReturn(true);
+            given(commentRepository.findAllWithUserByPostId(1L)).willReturn(List.of(
+                    comment(1L, null), comment(2L, 1L), comment(3L, 2L), comment(4L, 3L)));
+
+            // when
+            List<CommentResponse> tree = commentService.getCommentTree(1L, 1);
+
+            // then
+            CommentResponse depth1 = tree.get(0).getReplies().get(0);
+            assertThat(depth1.getCommentId()).isEqualTo(2L);
+            assertThat(depth1.getReplies()).extracting(CommentResponse::getCommentId).containsExactly(3L, 4L);
+            assertThat(depth1.getReplies()).allMatch(reply -> reply.getReplies().isEmpty());
+        }
+
+        @Test
+        @DisplayName("부모를 찾을 수 없는 댓글은 최상위로 취급")
+        void getCommentTree_OrphanBecomesRoot() {
+            // given
+            given(postRepository.existsById(1L)).willReturn(true);
+            given(commentRepository.findAllWithUserByPostId(1L)).willReturn(List.of(comment(2L, 99L)));
+
+            // when
+            List<CommentResponse> tree = commentService.getCommentTree(1L, CommentService.DEFAULT_MAX_DEPTH);
+
+            // then
+            assertThat(tree).extracting(CommentResponse::getCommentId).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("게시글이 없으면 예외 발생")
+        void getCommentTree_PostNotFound() {
+            // given
+            given(postRepository.existsById(1L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> commentService.getCommentTree(1L, CommentService.DEFAULT_MAX_DEPTH))
+                    .isInstanceOf(NotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("maxDepth 범위를 벗어나면 예외 발생")
+        void getCommentTree_InvalidMaxDepth() {
+            // when & then
+            assertThatThrownBy(() -> commentService.getCommentTree(1L, CommentService.MAX_DEPTH_LIMIT + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(commentRepository, postRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("댓글 목록 조회 (커서 페이징)")
+    class GetComments {
+
+        @Test
+        @DisplayName("최상위 댓글 페이지에 앞쪽 대댓글과 대댓글 수 포함")
+        void getComments_Success() {
+            // given
+            Comment root1 = comment(1L, null);
+            Comment root2 = comment(2L, null);
+            Comment reply = comment(3L, 1L);
+            given(postRepository.existsById(1L)).willReturn(true);
+            given(commentRepository.findRootsByPostId(eq(1L), any()))
+                    .willReturn(new SliceImpl<>(List.of(root1, root2), PageRequest.of(0, 2), true));
+            given(commentRepository.countRepliesByParentIds(List.of(1L, 2L)))
+                    .willReturn(List.<Object[]>of(new Object[]{1L, 4L}));
+            given(commentRepository.findFirstReplyIdsByParentIds(List.of(1L, 2L), 1)).willReturn(List.of(3L));
+            given(commentRepository.findAllWithUserByIdIn(List.of(3L))).willReturn(List.of(reply));
+
+            // when
+            CursorPageResponse<CommentThreadResponse> response = commentService.getComments(1L, null, 2, 1);
+
+            // then
+            assertThat(response.getContent()).extracting(CommentThreadResponse::getCommentId).containsExactly(1L, 2L);
+            CommentThreadResponse first = response.getContent().get(0);
+            assertThat(first.getReplyCount()).isEqualTo(4L);
+            assertThat(first.getReplies()).extracting(CommentResponse::getCommentId).containsExactly(3L);
+            assertThat(Cursor.decodeKeyset(first.getNextReplyCursor()).id()).isEqualTo(3L);
+            assertThat(response.getContent().get(1).getReplyCount()).isZero();
+            assertThat(response.getContent().get(1).getNextReplyCursor()).isNull();
+            assertThat(response.getCursorInfo().isHasNext()).isTrue();
+            assertThat(Cursor.decodeKeyset(response.getCursorInfo().getNextCursor()).id()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 (createdAt, id) 이후부터 조회")
+        void getComments_WithCursor() {
+            // given
+            LocalDateTime createdAt = LocalDateTime.of(2026, 1, 1, 10, 0);
+            given(postRepository.existsById(1L)).willReturn(true);
+            given(commentRepository.findRootsByPostIdAfter(eq(1L), eq(createdAt), eq(5L), any()))
+                    .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+            // when
+            CursorPageResponse<CommentThreadResponse> response =
+                    commentService.getComments(1L, Cursor.encode(createdAt, 5L), 20, 3);
+
+            // then
+            assertThat(response.getContent()).isEmpty();
+            assertThat(response.getCursorInfo().getNextCursor()).isNull();
+            verify(commentRepository, never()).findFirstReplyIdsByParentIds(any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("잘못된 커서면 예외 발생")
+        void getComments_InvalidCursor() {
+            // given
+            given(postRepository.existsById(1L)).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> commentService.getComments(1L, "invalid", 20, 3))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("대댓글 목록 조회 (커서 페이징)")
+    class GetReplies {
+
+        @Test
+        @DisplayName("댓글이 없으면 예외 발생")
+        void getReplies_CommentNotFound() {
+            // given
+            given(commentRepository.existsById(1L)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> commentService.getReplies(1L, null, 20))
+                    .isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    private Comment comment(Long id, Long parentId) {
+        Comment comment = Comment.create(user, null, "댓글" + id);
+        ReflectionTestUtils.setField(comment, "id", id);
+        ReflectionTestUtils.setField(comment, "parentId", parentId);
+        ReflectionTestUtils.setField(comment, "createdAt", LocalDateTime.of(2026, 1, 1, 10, 0).plusMinutes(id));
+        return comment;
+    }
+
+    private <T> T createInstance(Class<T> type) throws Exception {
+        java.lang.reflect.Constructor<T> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+}
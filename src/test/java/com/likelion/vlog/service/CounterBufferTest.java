@@ -0,0 +1,91 @@
+package com.likelion.vlog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterBufferTest {
+
+    private final CounterBuffer buffer = new CounterBuffer();
+
+    @Test
+    @DisplayName("id별 증감량 누적 후 스냅샷")
+    void snapshot_AggregatesDeltas() {
+        // given
+        buffer.add(1L, 1);
+        buffer.add(1L, 1);
+        buffer.add(2L, -1);
+
+        // when
+        Map<Long, Long> deltas = buffer.snapshot();
+
+        // then
+        assertThat(deltas).containsEntry(1L, 2L).containsEntry(2L, -1L);
+        assertThat(buffer.pendingUpdates()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반영 중에 들어온 증감은 commit 후에도 남아 다음 flush로 이월")
+    void commit_KeepsConcurrentWrites() {
+        // given
+        buffer.add(1L, 3);
+        Map<Long, Long> deltas = buffer.snapshot();
+        buffer.add(1L, 1);
+
+        // when
+        buffer.commit();
+
+        // then
+        assertThat(deltas).containsExactly(Map.entry(1L, 3L));
+        assertThat(buffer.pending(1L)).isEqualTo(1);
+        assertThat(buffer.pendingUpdates()).isEqualTo(1);
+        assertThat(buffer.snapshot()).containsExactly(Map.entry(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("반영 중인 증감은 commit 전까지 한 번만 집계되고 commit 후 제외")
+    void pending_CountsInFlightOnce() {
+        // given
+        buffer.add(1L, 2);
+        buffer.snapshot();
+        buffer.add(1L, 1);
+
+        // when
+        long duringFlush = buffer.pending(1L);
+        buffer.commit();
+
+        // then
+        assertThat(duringFlush).isEqualTo(3);
+        assertThat(buffer.pending(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("commit하지 않으면 증감량 유지 (DB 반영 실패 시 재시도)")
+    void snapshot_WithoutCommit_Retries() {
+        // given
+        buffer.add(1L, 2);
+        buffer.snapshot();
+
+        // when
+        Map<Long, Long> retry = buffer.snapshot();
+
+        // then
+        assertThat(retry).containsEntry(1L, 2L);
+        assertThat(buffer.pending(1L)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("0이 된 카운터는 스냅샷에서 제외")
+    void snapshot_SkipsZero() {
+        // given
+        buffer.add(1L, 1);
+        buffer.add(1L, -1);
+
+        // when & then
+        assertThat(buffer.snapshot()).isEmpty();
+        assertThat(buffer.pending(1L)).isZero();
+    }
+}
@@ -0,0 +1,188 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.response.LikeResponse;
+import com.likelion.vlog.entity.OutboxEventType;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.LikeRepository;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LikeServiceTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PostCounterService postCounterService;
+    @Mock
+    private PostLiveHub postLiveHub;
+    @Mock
+    private PostLikeIndex postLikeIndex;
+    @Mock
+    private OutboxPublisher outboxPublisher;
+
+    @InjectMocks
+    private LikeService likeService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        java.lang.reflect.Constructor<User> constructor = User.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        User user = constructor.newInstance();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(user, "email", "test@test.com");
+        given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(user));
+    }
+
+    @Nested
+    @DisplayName("좋아요")
+    class Like {
+
+        @Test
+        @DisplayName("새로 추가되면 카운터 증가를 등록하고 이번 변경을 더한 수 반환")
+        void like_Inserted() {
+            // given
+            given(postRepository.findLikeCountById(10L)).willReturn(Optional.of(3));
+            given(likeRepository.insertIfAbsent(eq(1L), eq(10L), any())).willReturn(true);
+            given(postCounterService.likeCount(10L, 3)).willReturn(3);
+
+            // when
+            LikeResponse response = likeService.like(10L, "test@test.com");
+
+            // then
+            assertThat(response.isLiked()).isTrue();
+            assertThat(response.getLikeCount()).isEqualTo(4);
+            verify(postCounterService).likeAdded(10L);
+            verify(postLiveHub).countersChanged(10L);
+            verify(outboxPublisher).append(OutboxEventType.LIKE_ADDED, 10L, Map.of("postId", 10L, "userId", 1L));
+        }
+
+        @Test
+        @DisplayName("이미 좋아요 상태면 카운터 변경 없이 현재 상태 반환")
+        void like_AlreadyLiked() {
+            // given
+            given(postRepository.findLikeCountById(10L)).willReturn(Optional.of(3));
+            given(likeRepository.insertIfAbsent(eq(1L), eq(10L), any())).willReturn(false);
+            given(postCounterService.likeCount(10L, 3)).willReturn(3);
+
+            // when
+            LikeResponse response = likeService.like(10L, "test@test.com");
+
+            // then
+            assertThat(response.isLiked()).isTrue();
+            assertThat(response.getLikeCount()).isEqualTo(3);
+            verify(postCounterService, never()).likeAdded(anyLong());
+            verifyNoInteractions(postLiveHub);
+        }
+
+        @Test
+        @DisplayName("게시글이 없으면 예외 발생")
+        void like_PostNotFound() {
+            // given
+            given(postRepository.findLikeCountById(10L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> likeService.like(10L, "test@test.com"))
+                    .isInstanceOf(NotFoundException.class);
+            verifyNoInteractions(likeRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 취소")
+    class Unlike {
+
+        @Test
+        @DisplayName("삭제되면 카운터 감소")
+        void unlike_Deleted() {
+            // given
+            given(postRepository.findLikeCountById(10L)).willReturn(Optional.of(3));
+            given(likeRepository.deleteByUserIdAndPostId(1L, 10L)).willReturn(1);
+            given(postCounterService.likeCount(10L, 3)).willReturn(3);
+
+            // when
+            LikeResponse response = likeService.unlike(10L, "test@test.com");
+
+            // then
+            assertThat(response.isLiked()).isFalse();
+            assertThat(response.getLikeCount()).isEqualTo(2);
+            verify(postCounterService).likeRemoved(10L);
+            verify(outboxPublisher).append(OutboxEventType.LIKE_REMOVED, 10L, Map.of("postId", 10L, "userId", 1L));
+        }
+
+        @Test
+        @DisplayName("좋아요 상태가 아니면 변경 없음")
+        void unlike_NotLiked() {
+            // given
+            given(postRepository.findLikeCountById(10L)).willReturn(Optional.of(3));
+            given(likeRepository.deleteByUserIdAndPostId(1L, 10L)).willReturn(0);
+
+            // when
+            likeService.unlike(10L, "test@test.com");
+
+            // then
+            verify(postCounterService, never()).likeRemoved(anyLong());
+            verifyNoInteractions(postLiveHub, outboxPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 여부 일괄 확인")
+    class GetLikedPostIds {
+
+        @Test
+        @DisplayName("색인이 준비되면 정렬/중복 제거한 id로 색인 조회 (쿼리 없음)")
+        void getLikedPostIds_FromIndex() {
+            // given
+            given(postLikeIndex.ready()).willReturn(true);
+            given(postLikeIndex.likedPostIds(1L, new long[]{3L, 5L, 9L})).willReturn(new long[]{5L});
+
+            // when
+            List<Long> result = likeService.getLikedPostIds("test@test.com", List.of(9L, 5L, 3L, 5L));
+
+            // then
+            assertThat(result).containsExactly(5L);
+            verifyNoInteractions(likeRepository);
+        }
+
+        @Test
+        @DisplayName("색인 구성 전에는 한 번의 쿼리로 조회")
+        void getLikedPostIds_BeforeIndexReady() {
+            // given
+            given(postLikeIndex.ready()).willReturn(false);
+            given(likeRepository.findLikedPostIds(1L, List.of(3L, 5L))).willReturn(List.of(5L, 3L));
+
+            // when
+            List<Long> result = likeService.getLikedPostIds("test@test.com", List.of(5L, 3L));
+
+            // then
+            assertThat(result).containsExactly(3L, 5L);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.entity.OutboxEventType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private EntityManager entityManager;
+
+    private OutboxPublisher outboxPublisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxPublisher = new OutboxPublisher(jdbcTemplate, entityManager, new ObjectMapper());
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("트랜잭션의 이벤트는 커밋 직전에 flush 한 번 + batch INSERT 한 번으로 기록")
+    @SuppressWarnings("unchecked")
+    void append_WritesOncePerTransaction() {
+        // given
+        outboxPublisher.append(OutboxEventType.POST_DELETED, 1L, Map.of("postId", 1L));
+        outboxPublisher.append(OutboxEventType.POST_DELETED, 2L, Map.of("postId", 2L));
+        verifyNoInteractions(entityManager, jdbcTemplate);
+
+        // when
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+        // then
+        assertThat(synchronizations).hasSize(1);
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(entityManager, jdbcTemplate);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).extracting(row -> row[1]).containsExactly(1L, 2L);
+        assertThat(rows.getValue()).extracting(row -> row[2]).containsOnly("POST_DELETED");
+    }
+}
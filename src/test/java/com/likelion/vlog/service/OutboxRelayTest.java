@@ -0,0 +1,155 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.entity.OutboxEvent;
+import com.likelion.vlog.entity.OutboxEventType;
+import com.likelion.vlog.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private ObjectProvider<OutboxEventListener> listenerProvider;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Long> delivered = new CopyOnWriteArrayList<>();
+    private OutboxRelay outboxRelay;
+
+    @AfterEach
+    void tearDown() {
+        outboxRelay.shutdown();
+    }
+
+    @Test
+    @DisplayName("집합체별 순서대로 전달하고 성공한 이벤트만 전달 완료 처리")
+    void relay_MarksPublished() {
+        // given
+        createRelay((event, payload) -> delivered.add(event.getId()));
+        given(outboxEventRepository.findUnpublished(eq(10), any(Pageable.class)))
+                .willReturn(List.of(event(1L, 100L), event(2L, 200L), event(3L, 100L)));
+
+        // when
+        boolean hasMore = outboxRelay.relayBatch();
+
+        // then
+        assertThat(hasMore).isFalse();
+        assertThat(delivered).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(delivered.indexOf(1L)).isLessThan(delivered.indexOf(3L));
+        verify(outboxEventRepository).markPublished(argThatContains(1L, 2L, 3L), any());
+        verify(outboxEventRepository, never()).increaseAttempts(any());
+        assertThat(meterRegistry.get("vlog.outbox.dispatched").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("vlog.outbox.backlog").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전달 실패 시 같은 집합체의 이후 이벤트는 보류, 다른 집합체는 계속 전달")
+    void relay_FailureHoldsBackAggregate() {
+        // given
+        createRelay((event, payload) -> {
+            if (event.getId() == 1L) {
+                throw new IllegalStateException("fail");
+            }
+            delivered.add(event.getId());
+        });
+        given(outboxEventRepository.findUnpublished(eq(10), any(Pageable.class)))
+                .willReturn(List.of(event(1L, 100L), event(2L, 200L), event(3L, 100L)));
+
+        // when
+        outboxRelay.relayBatch();
+
+        // then
+        assertThat(delivered).containsExactly(2L);
+        verify(outboxEventRepository).markPublished(eq(List.of(2L)), any());
+        verify(outboxEventRepository).increaseAttempts(List.of(1L));
+        assertThat(meterRegistry.get("vlog.outbox.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트가 없으면 지표를 0으로 두고 아무것도 기록하지 않음")
+    void relay_Empty() {
+        // given
+        createRelay((event, payload) -> delivered.add(event.getId()));
+        given(outboxEventRepository.findUnpublished(eq(10), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(delivered).isEmpty();
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+        assertThat(meterRegistry.get("vlog.outbox.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("payload를 한 번 파싱해 지원하는 리스너에만 전달")
+    void relay_ParsedPayloadToSupportingListeners() {
+        // given
+        List<String> tags = new CopyOnWriteArrayList<>();
+        createRelay(new OutboxEventListener() {
+            @Override
+            public boolean supports(OutboxEventType eventType) {
+                return eventType == OutboxEventType.POST_CREATED;
+            }
+
+            @Override
+            public void onEvent(OutboxEvent event, JsonNode payload) {
+                tags.add(payload.path("tags").get(0).asText());
+            }
+        });
+        OutboxEvent created = OutboxEvent.create(OutboxEventType.POST_CREATED, 100L, "{\"tags\":[\"Spring\"]}");
+        ReflectionTestUtils.setField(created, "id", 1L);
+        given(outboxEventRepository.findUnpublished(eq(10), any(Pageable.class)))
+                .willReturn(List.of(created, event(2L, 100L)));
+
+        // when
+        outboxRelay.relayBatch();
+
+        // then
+        assertThat(tags).containsExactly("Spring");
+        verify(outboxEventRepository).markPublished(argThatContains(1L, 2L), any());
+    }
+
+    private void createRelay(OutboxEventListener listener) {
+        given(listenerProvider.orderedStream()).willReturn(Stream.of(listener));
+        outboxRelay = new OutboxRelay(outboxEventRepository, listenerProvider, new ObjectMapper(), transactionManager,
+                meterRegistry, 10, 10, Duration.ofDays(1), 2, 10);
+    }
+
+    private OutboxEvent event(Long id, Long postId) {
+        OutboxEvent event = OutboxEvent.create(OutboxEventType.POST_UPDATED, postId, "{}");
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    private List<Long> argThatContains(Long... ids) {
+        return argThat(list -> list.size() == ids.length && list.containsAll(List.of(ids)));
+    }
+}
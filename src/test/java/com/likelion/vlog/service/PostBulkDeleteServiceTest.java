@@ -0,0 +1,142 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.common.TagFilter;
+import com.likelion.vlog.dto.request.PostBulkDeleteRequest;
+import com.likelion.vlog.dto.response.PostBulkDeleteResponse;
+import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.exception.ForbiddenException;
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.BlogRepository;
+import com.likelion.vlog.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostBulkDeleteServiceTest {
+
+    @Mock
+    private PostService postService;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private BlogRepository blogRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostBulkDeleteService postBulkDeleteService;
+
+    @BeforeEach
+    void setUp() {
+        postBulkDeleteService = new PostBulkDeleteService(postService, postRepository, blogRepository,
+                transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("게시글 id 목록: 권한 확인 쿼리 한 번 후 chunk-size씩 삭제")
+    void deletePosts_ByIds() {
+        // given
+        given(postRepository.findOwnerEmailsByIds(Set.of(1L, 2L, 3L))).willReturn(List.of(
+                new Object[]{1L, "test@test.com"}, new Object[]{2L, "test@test.com"}, new Object[]{3L, "test@test.com"}));
+        given(postService.deletePosts(List.of(1L, 2L))).willReturn(2);
+        given(postService.deletePosts(List.of(3L))).willReturn(1);
+
+        // when
+        PostBulkDeleteResponse response = postBulkDeleteService.deletePosts(request(List.of(1L, 2L, 3L, 1L), null), "test@test.com");
+
+        // then
+        assertThat(response.getRequested()).isEqualTo(3);
+        assertThat(response.getDeleted()).isEqualTo(3);
+        assertThat(response.getFailed()).isZero();
+        verify(postRepository, times(1)).findOwnerEmailsByIds(any());
+    }
+
+    @Test
+    @DisplayName("본인 글이 아닌 게시글이 하나라도 있으면 아무것도 삭제하지 않음")
+    void deletePosts_Forbidden() {
+        // given
+        given(postRepository.findOwnerEmailsByIds(Set.of(1L, 2L))).willReturn(List.of(
+                new Object[]{1L, "test@test.com"}, new Object[]{2L, "other@test.com"}));
+
+        // when & then
+        assertThatThrownBy(() -> postBulkDeleteService.deletePosts(request(List.of(1L, 2L), null), "test@test.com"))
+                .isInstanceOf(ForbiddenException.class);
+        verify(postService, never()).deletePosts(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글이 있으면 예외 발생")
+    void deletePosts_NotFound() {
+        // given
+        given(postRepository.findOwnerEmailsByIds(Set.of(1L, 2L))).willReturn(List.<Object[]>of(
+                new Object[]{1L, "test@test.com"}));
+
+        // when & then
+        assertThatThrownBy(() -> postBulkDeleteService.deletePosts(request(List.of(1L, 2L), null), "test@test.com"))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("블로그 + 태그 필터: 실패한 청크만 실패로 집계하고 계속 진행")
+    void deletePosts_ByBlog() throws Exception {
+        // given
+        User user = createInstance(User.class);
+        ReflectionTestUtils.setField(user, "email", "test@test.com");
+        Blog blog = createInstance(Blog.class);
+        ReflectionTestUtils.setField(blog, "user", user);
+        given(blogRepository.findById(1L)).willReturn(Optional.of(blog));
+        given(postService.findPostIds(any(TagFilter.class), any())).willReturn(new long[]{1L, 2L, 3L});
+        given(postService.deletePosts(List.of(1L, 2L))).willThrow(new QueryTimeoutException("timeout"));
+        given(postService.deletePosts(List.of(3L))).willReturn(1);
+        PostBulkDeleteRequest request = request(null, 1L);
+        ReflectionTestUtils.setField(request, "tags", List.of("Spring"));
+
+        // when
+        PostBulkDeleteResponse response = postBulkDeleteService.deletePosts(request, "test@test.com");
+
+        // then
+        assertThat(response.getRequested()).isEqualTo(3);
+        assertThat(response.getDeleted()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("postIds와 blogId를 함께 지정하거나 둘 다 없으면 예외 발생")
+    void deletePosts_InvalidTarget() {
+        // when & then
+        assertThatThrownBy(() -> postBulkDeleteService.deletePosts(request(List.of(1L), 1L), "test@test.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postBulkDeleteService.deletePosts(request(null, null), "test@test.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PostBulkDeleteRequest request(List<Long> postIds, Long blogId) {
+        PostBulkDeleteRequest request = new PostBulkDeleteRequest();
+        ReflectionTestUtils.setField(request, "postIds", postIds);
+        ReflectionTestUtils.setField(request, "blogId", blogId);
+        return request;
+    }
+
+    private <T> T createInstance(Class<T> type) throws Exception {
+        java.lang.reflect.Constructor<T> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+}
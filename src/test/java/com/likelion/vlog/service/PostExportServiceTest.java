@@ -0,0 +1,136 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.exception.ForbiddenException;
+import com.likelion.vlog.repository.BlogRepository;
+import com.likelion.vlog.repository.PostExportRow;
+import com.likelion.vlog.repository.PostRepository;
+import com.likelion.vlog.repository.TagMapRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostExportServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 10, 0);
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private TagMapRepository tagMapRepository;
+    @Mock
+    private BlogRepository blogRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostExportService postExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        postExportService = new PostExportService(postRepository, tagMapRepository, blogRepository,
+                objectMapper, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("NDJSON: 한 줄에 게시글 하나, 태그는 chunk-size마다 한 번에 조회")
+    void export_Ndjson() throws Exception {
+        // given
+        given(postRepository.streamExportRows(1L)).willReturn(Stream.of(row(1L, "제목1"), row(2L, "제목2"), row(3L, "제목3")));
+        given(tagMapRepository.findTagTitlesByPostIds(List.of(1L, 2L)))
+                .willReturn(List.<Object[]>of(new Object[]{1L, "Spring"}, new Object[]{1L, "JPA"}));
+        given(tagMapRepository.findTagTitlesByPostIds(List.of(3L))).willReturn(List.of());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long exported = postExportService.export(1L, PostExportService.Format.NDJSON, false, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(3);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("{\"postId\":1,\"title\":\"제목1\",\"content\":\"내용\",\"tags\":[\"Spring\",\"JPA\"],"
+                + "\"createdAt\":\"2026-01-01T10:00:00\",\"updatedAt\":\"2026-01-01T10:00:00\"}");
+        assertThat(lines[2]).contains("\"tags\":[]");
+        verify(tagMapRepository, times(2)).findTagTitlesByPostIds(anyList());
+    }
+
+    @Test
+    @DisplayName("CSV + gzip: 헤더 포함, 쉼표/따옴표/개행이 있는 값은 따옴표로 감쌈")
+    void export_CsvGzip() throws Exception {
+        // given
+        PostExportRow row = new PostExportRow(1L, "a,\"b\"", "줄1\n줄2", CREATED_AT, CREATED_AT);
+        given(postRepository.streamExportRows(1L)).willReturn(Stream.of(row));
+        given(tagMapRepository.findTagTitlesByPostIds(List.of(1L)))
+                .willReturn(List.<Object[]>of(new Object[]{1L, "Spring"}, new Object[]{1L, "JPA"}));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        postExportService.export(1L, PostExportService.Format.CSV, true, out);
+
+        // then
+        String csv = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8);
+        assertThat(csv).isEqualTo("postId,title,content,tags,createdAt,updatedAt\n"
+                + "1,\"a,\"\"b\"\"\",\"줄1\n줄2\",Spring|JPA,2026-01-01T10:00,2026-01-01T10:00\n");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 예외 발생")
+    void format_Invalid() {
+        // when & then
+        assertThat(PostExportService.Format.from(null)).isEqualTo(PostExportService.Format.NDJSON);
+        assertThat(PostExportService.Format.from("CSV")).isEqualTo(PostExportService.Format.CSV);
+        assertThatThrownBy(() -> PostExportService.Format.from("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("블로그 주인이 아니면 예외 발생")
+    void checkExportable_Forbidden() throws Exception {
+        // given
+        User user = createInstance(User.class);
+        ReflectionTestUtils.setField(user, "email", "test@test.com");
+        Blog blog = createInstance(Blog.class);
+        ReflectionTestUtils.setField(blog, "user", user);
+        given(blogRepository.findById(1L)).willReturn(Optional.of(blog));
+
+        // when & then
+        assertThatThrownBy(() -> postExportService.checkExportable(1L, "other@test.com"))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    private PostExportRow row(Long id, String title) {
+        return new PostExportRow(id, title, "내용", CREATED_AT, CREATED_AT);
+    }
+
+    private <T> T createInstance(Class<T> type) throws Exception {
+        java.lang.reflect.Constructor<T> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+}
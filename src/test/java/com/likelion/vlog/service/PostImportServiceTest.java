@@ -0,0 +1,152 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.dto.request.PostCreateRequest;
+import com.likelion.vlog.dto.response.PostImportResponse;
+import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.entity.User;
+import com.likelion.vlog.exception.ForbiddenException;
+import com.likelion.vlog.repository.BlogRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostImportServiceTest {
+
+    @Mock
+    private PostService postService;
+    @Mock
+    private TagInterner tagInterner;
+    @Mock
+    private BlogRepository blogRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostImportService postImportService;
+    private Blog blog;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        postImportService = new PostImportService(postService, tagInterner, blogRepository, new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, 2, 200);
+
+        User user = createInstance(User.class);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(user, "email", "test@test.com");
+        blog = createInstance(Blog.class);
+        ReflectionTestUtils.setField(blog, "id", 1L);
+        ReflectionTestUtils.setField(blog, "user", user);
+        given(blogRepository.findById(1L)).willReturn(Optional.of(blog));
+    }
+
+    @Test
+    @DisplayName("줄 단위로 검증 후 batch-size마다 저장, 잘못된 줄은 줄 번호와 함께 보고")
+    void importPosts_ReportsLineErrors() throws Exception {
+        // given
+        given(blogRepository.getReferenceById(1L)).willReturn(blog);
+        String body = """
+                {"title":"제목1","content":"내용1","tags":["Spring"]}
+                {"title":"제목2","content":"내용2"}
+                not json
+                {"title":"","content":"내용"}
+
+                {"title":"제목3","content":"내용3"}
+                """;
+
+        // when
+        PostImportResponse response = postImportService.importPosts(1L, "test@test.com", stream(body));
+
+        // then
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getErrors()).extracting(PostImportResponse.LineError::getLine).containsExactly(3L, 4L);
+        assertThat(response.getErrors().get(1).getMessage()).contains("제목은 필수입니다.");
+        verify(postService, times(3)).savePost(eq(blog), any(PostCreateRequest.class));
+        verify(transactionManager, times(3)).commit(any());
+        verify(tagInterner).prepare(List.of("Spring"));
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 줄은 실패 처리 후 다음 줄부터 계속")
+    void importPosts_TooLongLine() throws Exception {
+        // given
+        given(blogRepository.getReferenceById(1L)).willReturn(blog);
+        String body = "{\"title\":\"" + "a".repeat(300) + "\",\"content\":\"내용\"}\n"
+                + "{\"title\":\"제목\",\"content\":\"내용\"}\n";
+
+        // when
+        PostImportResponse response = postImportService.importPosts(1L, "test@test.com", stream(body));
+
+        // then
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(PostImportResponse.LineError::getLine).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("배치 저장 실패 시 한 줄씩 다시 저장하여 실패한 줄만 원인과 함께 실패 처리")
+    void importPosts_BatchFailure() throws Exception {
+        // given
+        given(blogRepository.getReferenceById(1L)).willReturn(blog);
+        given(postService.savePost(eq(blog), any(PostCreateRequest.class))).willAnswer(invocation -> {
+            PostCreateRequest request = invocation.getArgument(1);
+            if (request.getTitle().equals("실패")) {
+                throw new DataIntegrityViolationException("Data too long for column 'title'");
+            }
+            return null;
+        });
+        String body = """
+                {"title":"실패","content":"내용"}
+                {"title":"제목2","content":"내용"}
+                {"title":"제목3","content":"내용"}
+                """;
+
+        // when
+        PostImportResponse response = postImportService.importPosts(1L, "test@test.com", stream(body));
+
+        // then
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(PostImportResponse.LineError::getLine).containsExactly(1L);
+        assertThat(response.getErrors().get(0).getMessage()).contains("Data too long for column 'title'");
+    }
+
+    @Test
+    @DisplayName("블로그 주인이 아니면 예외 발생")
+    void importPosts_Forbidden() {
+        // when & then
+        assertThatThrownBy(() -> postImportService.importPosts(1L, "other@test.com", stream("")))
+                .isInstanceOf(ForbiddenException.class);
+        verifyNoInteractions(postService);
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private <T> T createInstance(Class<T> type) throws Exception {
+        java.lang.reflect.Constructor<T> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+}
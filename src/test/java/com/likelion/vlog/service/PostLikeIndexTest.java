@@ -0,0 +1,80 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.repository.LikeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PostLikeIndexTest {
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    private PostLikeIndex postLikeIndex;
+
+    @BeforeEach
+    void setUp() {
+        postLikeIndex = new PostLikeIndex(likeRepository, 2);
+    }
+
+    @Test
+    @DisplayName("likes를 청크 단위로 읽어 사용자별 게시글 id 구성, 페이지 단위로 좋아요 여부 확인")
+    void build_Success() {
+        // given
+        given(likeRepository.findIndexEntries(eq(0L), any())).willReturn(List.of(
+                new Object[]{1L, 1L, 7L}, new Object[]{2L, 1L, 3L}));
+        given(likeRepository.findIndexEntries(eq(2L), any())).willReturn(List.of(
+                new Object[]{3L, 2L, 3L}));
+        given(likeRepository.findIndexEntries(eq(3L), any())).willReturn(List.of());
+
+        // when
+        postLikeIndex.build();
+
+        // then
+        assertThat(postLikeIndex.ready()).isTrue();
+        assertThat(postLikeIndex.likedPostIds(1L, new long[]{3L, 5L, 7L})).containsExactly(3L, 7L);
+        assertThat(postLikeIndex.likedPostIds(2L, new long[]{5L, 7L})).isEmpty();
+        assertThat(postLikeIndex.likedPostIds(99L, new long[]{3L})).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구성 중에 들어온 변경은 구성 완료 후 반영")
+    void update_BeforeReady() {
+        // given
+        given(likeRepository.findIndexEntries(eq(0L), any())).willReturn(List.of());
+        postLikeIndex.updateAfterCommit(1L, 3L, true);
+
+        // when
+        postLikeIndex.build();
+
+        // then
+        assertThat(postLikeIndex.likedPostIds(1L, new long[]{3L})).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("좋아요 / 좋아요 취소 반영")
+    void update_LikeAndUnlike() {
+        // given
+        given(likeRepository.findIndexEntries(eq(0L), any())).willReturn(List.of());
+        postLikeIndex.build();
+
+        // when
+        postLikeIndex.updateAfterCommit(1L, 5L, true);
+        postLikeIndex.updateAfterCommit(1L, 2L, true);
+        postLikeIndex.updateAfterCommit(1L, 5L, false);
+
+        // then
+        assertThat(postLikeIndex.likedPostIds(1L, new long[]{2L, 5L})).containsExactly(2L);
+    }
+}
@@ -0,0 +1,82 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.exception.NotFoundException;
+import com.likelion.vlog.repository.PostRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostLiveHubTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PostCounterService postCounterService;
+
+    private PostLiveHub postLiveHub;
+
+    @BeforeEach
+    void setUp() {
+        postLiveHub = new PostLiveHub(postRepository, postCounterService, new SimpleMeterRegistry(),
+                4, 100, 500, 60000, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postLiveHub.shutdown();
+    }
+
+    @Test
+    @DisplayName("주기 안의 카운터 변경은 게시글별로 한 번만 조회하여 전송")
+    void countersChanged_Coalesced() {
+        // given
+        given(postRepository.existsById(1L)).willReturn(true);
+        given(postRepository.findCountersByIds(any())).willReturn(List.<Object[]>of(new Object[]{1L, 3, 2}));
+        postLiveHub.subscribe(1L);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            postLiveHub.countersChanged(1L);
+        }
+
+        // then
+        verify(postRepository, timeout(2000)).findCountersByIds(List.of(1L));
+        verify(postRepository, after(700).times(1)).findCountersByIds(any());
+        verify(postCounterService).likeCount(1L, 3);
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 게시글의 변경은 전달하지 않음")
+    void countersChanged_NoSubscribers() {
+        // when
+        postLiveHub.countersChanged(1L);
+
+        // then
+        verify(postRepository, after(700).never()).findCountersByIds(any());
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 예외 발생")
+    void subscribe_PostNotFound() {
+        // given
+        given(postRepository.existsById(1L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> postLiveHub.subscribe(1L))
+                .isInstanceOf(NotFoundException.class);
+    }
+}
@@ -1,14 +1,26 @@
 package com.likelion.vlog.service;
 
 import com.likelion.vlog.dto.request.PostCreateRequest;
+import com.likelion.vlog.dto.common.Cursor;
+import com.likelion.vlog.dto.common.TagFilter;
+import com.likelion.vlog.dto.request.PostPatchRequest;
 import com.likelion.vlog.dto.request.PostUpdateRequest;
+import com.likelion.vlog.dto.response.CursorPageResponse;
+import com.likelion.vlog.dto.response.PageResponse;
+import com.likelion.vlog.dto.response.PostListResponse;
+import com.likelion.vlog.dto.response.PostPatchResponse;
 import com.likelion.vlog.dto.response.PostResponse;
 import com.likelion.vlog.entity.Blog;
+import com.likelion.vlog.entity.OutboxEventType;
 import com.likelion.vlog.entity.Post;
+import com.likelion.vlog.entity.Tag;
+import com.likelion.vlog.entity.TagMap;
 import com.likelion.vlog.entity.User;
+import com.likelion.vlog.exception.ConflictException;
 import com.likelion.vlog.exception.ForbiddenException;
 import com.likelion.vlog.exception.NotFoundException;
 import com.likelion.vlog.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,16 +28,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -42,9 +62,28 @@ class PostServiceTest {
     @Mock
     private TagMapRepository tagMapRepository;
     @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private LikeRepository likeRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private BlogRepository blogRepository;
+    @Mock
+    private PostCounterService postCounterService;
+    @Mock
+    private PostViewCounter postViewCounter;
+    @Mock
+    private PostTagIndex postTagIndex;
+    @Mock
+    private TagInterner tagInterner;
+    @Mock
+    private OutboxPublisher outboxPublisher;
+    @Mock
+    private TrendingRanking trendingRanking;
+    @Spy
+    private PostDetailCache postDetailCache =
+            new PostDetailCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
 
     private User user;
     private Blog blog;
@@ -87,6 +126,264 @@ class PostServiceTest {
                     .isInstanceOf(NotFoundException.class)
                     .hasMessageContaining("게시글을 찾을 수 없습니다");
         }
+
+        @Test
+        @DisplayName("두 번째 조회부터는 캐시에서 응답")
+        void getPost_Cached() {
+            // given
+            given(postRepository.findById(1L)).willReturn(Optional.of(post));
+            given(postViewCounter.pending(1L)).willReturn(3L);
+
+            // when
+            postService.getPost(1L);
+            PostResponse response = postService.getPost(1L);
+
+            // then
+            verify(postRepository, times(1)).findById(1L);
+            assertThat(response.getViewCount()).isEqualTo(3L);
+            assertThat(postDetailCache.stats().hitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("버전 조회 시 미반영 좋아요/댓글 증감량 포함")
+        void getPostVersion_IncludesPendingCounts() {
+            // given
+            LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 12, 0);
+            given(postRepository.findVersionById(1L)).willReturn(new PostVersion(1L, updatedAt, 2L, 1L));
+            given(postCounterService.likeCount(1L, 2)).willReturn(5);
+            given(postCounterService.commentCount(1L, 1)).willReturn(1);
+
+            // when
+            PostVersion version = postService.getPostVersion(1L);
+
+            // then
+            assertThat(version.likeCount()).isEqualTo(5L);
+            assertThat(version.etag("1")).isNotEqualTo(new PostVersion(1L, updatedAt, 2L, 1L).etag("1"));
+            verify(postRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 게시글 버전 조회 시 예외 발생")
+        void getPostVersion_NotFound() {
+            // given
+            given(postRepository.findVersionById(999L)).willReturn(new PostVersion(0L, null, null, null));
+
+            // when & then
+            assertThatThrownBy(() -> postService.getPostVersion(999L))
+                    .isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 목록 조회")
+    class GetPosts {
+
+        @Test
+        @DisplayName("태그 필터 목록 조회 시 프로젝션 쿼리 사용")
+        void getPosts_ByTag() {
+            // given
+            PageRequest pageable = PageRequest.of(0, 10);
+            given(postRepository.findSummariesByTagName("Spring", pageable))
+                    .willReturn(new PageImpl<>(List.of(createSummary(1L)), pageable, 1));
+
+            // when
+            PageResponse<PostListResponse> response = postService.getPosts("Spring", null, pageable);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getContent().get(0).getSummary()).isEqualTo("요약1");
+            assertThat(response.getContent().get(0).getAuthor().getNickname()).isEqualTo("테스터");
+            assertThat(response.getPageInfo().getTotalElements()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("태그 색인이 준비되면 색인에서 페이지 id를 결정하고 PK로 조회")
+        void getPosts_ByTagFromIndex() {
+            // given
+            PageRequest pageable = PageRequest.of(1, 2);
+            given(postTagIndex.ready()).willReturn(true);
+            given(postTagIndex.postIds("Spring")).willReturn(new long[]{1L, 3L, 5L, 7L, 9L});
+            given(postRepository.findSummariesByIds(List.of(5L, 3L)))
+                    .willReturn(List.of(createSummary(5L), createSummary(3L)));
+
+            // when
+            PageResponse<PostListResponse> response = postService.getPosts("Spring", null, pageable);
+
+            // then
+            assertThat(response.getContent()).extracting(PostListResponse::getPostId).containsExactly(5L, 3L);
+            assertThat(response.getPageInfo().getTotalElements()).isEqualTo(5);
+            verify(postRepository, never()).findSummariesByTagName(any(), any());
+        }
+
+        @Test
+        @DisplayName("다중 태그 all: 태그별 id 목록 교집합 후 블로그 게시글과 교집합하여 페이징")
+        void getPosts_AllTagsWithBlog() {
+            // given
+            PageRequest pageable = PageRequest.of(0, 10);
+            given(postTagIndex.ready()).willReturn(true);
+            given(postTagIndex.postIds("Spring")).willReturn(new long[]{1L, 2L, 3L, 4L});
+            given(postTagIndex.postIds("JPA")).willReturn(new long[]{2L, 3L, 4L});
+            given(postRepository.findIdsByBlogId(1L)).willReturn(List.of(3L, 4L, 5L));
+            given(postRepository.findSummariesByIds(List.of(4L, 3L)))
+                    .willReturn(List.of(createSummary(4L), createSummary(3L)));
+
+            // when
+            PageResponse<PostListResponse> response =
+                    postService.getPostsByTags(TagFilter.of(List.of("Spring", "JPA"), "all"), 1L, pageable);
+
+            // then
+            assertThat(response.getContent()).extracting(PostListResponse::getPostId).containsExactly(4L, 3L);
+            assertThat(response.getPageInfo().getTotalElements()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("다중 태그 any: 색인 구성 전에는 DB의 태그별 id 목록을 합집합")
+        void getPosts_AnyTagsBeforeIndexReady() {
+            // given
+            PageRequest pageable = PageRequest.of(0, 2);
+            given(tagMapRepository.findPostIdsByTagTitle("Spring")).willReturn(List.of(1L, 5L));
+            given(tagMapRepository.findPostIdsByTagTitle("JPA")).willReturn(List.of(2L, 5L));
+            given(postRepository.findSummariesByIds(List.of(5L, 2L)))
+                    .willReturn(List.of(createSummary(5L), createSummary(2L)));
+
+            // when
+            PageResponse<PostListResponse> response =
+                    postService.getPostsByTags(TagFilter.of(List.of("Spring", "JPA"), "any"), null, pageable);
+
+            // then
+            assertThat(response.getContent()).extracting(PostListResponse::getPostId).containsExactly(5L, 2L);
+            assertThat(response.getPageInfo().getTotalElements()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("태그는 페이지 단위로 일괄 조회, 카운터는 미반영 증감량까지 병합")
+        void getPosts_EnrichesInBulk() {
+            // given
+            PageRequest pageable = PageRequest.of(0, 10);
+            given(postRepository.findSummaries(pageable))
+                    .willReturn(new PageImpl<>(List.of(createSummary(2L), createSummary(1L)), pageable, 2));
+            given(tagMapRepository.findTagTitlesByPostIds(List.of(2L, 1L)))
+                    .willReturn(List.of(new Object[]{1L, "Spring"}, new Object[]{2L, "JPA"}, new Object[]{1L, "Java"}));
+            given(postCounterService.likeCount(2L, 0)).willReturn(5);
+            given(postCounterService.commentCount(1L, 0)).willReturn(3);
+
+            // when
+            PageResponse<PostListResponse> response = postService.getPosts(null, null, pageable);
+
+            // then
+            PostListResponse first = response.getContent().get(0);
+            PostListResponse second = response.getContent().get(1);
+            assertThat(first.getTags()).containsExactly("JPA");
+            assertThat(first.getLikeCount()).isEqualTo(5);
+            assertThat(first.getCommentCount()).isZero();
+            assertThat(second.getTags()).containsExactly("Spring", "Java");
+            assertThat(second.getLikeCount()).isZero();
+            assertThat(second.getCommentCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("게시글 목록 조회 (커서)")
+    class GetPostsByCursor {
+
+        @Test
+        @DisplayName("첫 페이지 조회 시 다음 커서 반환")
+        void getPostsByCursor_FirstPage() {
+            // given
+            given(postRepository.findSummariesBefore(eq(Long.MAX_VALUE), any()))
+                    .willReturn(new SliceImpl<>(List.of(createSummary(2L), createSummary(1L)), PageRequest.of(0, 2), true));
+
+            // when
+            CursorPageResponse<PostListResponse> response = postService.getPostsByCursor(null, null, null, 2);
+
+            // then
+            assertThat(response.getContent()).hasSize(2);
+            assertThat(response.getCursorInfo().isHasNext()).isTrue();
+            assertThat(Cursor.decode(response.getCursorInfo().getNextCursor())).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("커서 이후 마지막 페이지 조회 시 다음 커서 없음")
+        void getPostsByCursor_LastPage() {
+            // given
+            given(postRepository.findSummariesByBlogIdBefore(eq(1L), eq(2L), any()))
+                    .willReturn(new SliceImpl<>(List.of(createSummary(1L)), PageRequest.of(0, 2), false));
+
+            // when
+            CursorPageResponse<PostListResponse> response =
+                    postService.getPostsByCursor(null, 1L, Cursor.encode(2L), 2);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getCursorInfo().isHasNext()).isFalse();
+            assertThat(response.getCursorInfo().getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("태그 색인에서 커서 이전 id를 이진 탐색하여 조회")
+        void getPostsByCursor_ByTagFromIndex() {
+            // given
+            given(postTagIndex.ready()).willReturn(true);
+            given(postTagIndex.postIds("Spring")).willReturn(new long[]{1L, 3L, 5L, 7L});
+            given(postRepository.findSummariesByIds(List.of(5L, 3L)))
+                    .willReturn(List.of(createSummary(5L), createSummary(3L)));
+
+            // when
+            CursorPageResponse<PostListResponse> response =
+                    postService.getPostsByCursor("Spring", null, Cursor.encode(6L), 2);
+
+            // then
+            assertThat(response.getContent()).extracting(PostListResponse::getPostId).containsExactly(5L, 3L);
+            assertThat(response.getCursorInfo().isHasNext()).isTrue();
+            assertThat(Cursor.decode(response.getCursorInfo().getNextCursor())).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("잘못된 커서 전달 시 예외 발생")
+        void getPostsByCursor_InvalidCursor() {
+            // when & then
+            assertThatThrownBy(() -> postService.getPostsByCursor(null, null, "!!invalid!!", 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("잘못된 커서");
+        }
+    }
+
+    @Nested
+    @DisplayName("인기 게시글 목록 조회")
+    class GetTrendingPosts {
+
+        @Test
+        @DisplayName("순위 순서대로 정렬하고 순위에는 있지만 조회되지 않은 게시글은 제외 후 순위에서 제거")
+        void getTrendingPosts_OrderedByRank() {
+            // given
+            PageRequest pageable = PageRequest.of(0, 3);
+            given(trendingRanking.page(0, 3)).willReturn(new TrendingRanking.RankedPage(List.of(3L, 9L, 5L), 4));
+            given(postRepository.findSummariesByIds(List.of(3L, 9L, 5L)))
+                    .willReturn(List.of(createSummary(5L), createSummary(3L)));
+
+            // when
+            PageResponse<PostListResponse> response = postService.getTrendingPosts(pageable);
+
+            // then
+            assertThat(response.getContent()).extracting(PostListResponse::getPostId).containsExactly(3L, 5L);
+            assertThat(response.getPageInfo().getTotalElements()).isEqualTo(4);
+            verify(trendingRanking).removed(9L);
+            verify(trendingRanking, never()).removed(3L);
+        }
+
+        @Test
+        @DisplayName("순위가 비어 있으면 게시글을 조회하지 않음")
+        void getTrendingPosts_Empty() {
+            // given
+            given(trendingRanking.page(0, 10)).willReturn(new TrendingRanking.RankedPage(List.of(), 0));
+
+            // when
+            PageResponse<PostListResponse> response = postService.getTrendingPosts(PageRequest.of(0, 10));
+
+            // then
+            assertThat(response.getContent()).isEmpty();
+            verify(postRepository, never()).findSummariesByIds(any());
+        }
     }
 
     @Nested
@@ -118,6 +415,36 @@ class PostServiceTest {
             assertThat(response.getTitle()).isEqualTo("새 게시글");
             assertThat(response.getContent()).isEqualTo("새 내용");
             verify(postRepository).save(any(Post.class));
+            verify(outboxPublisher).append(eq(OutboxEventType.POST_CREATED), eq(1L), any());
+        }
+
+        @Test
+        @DisplayName("태그는 TagInterner로 id를 확인하고 매핑은 일괄 저장")
+        void createPost_SavesTagsInBulk() {
+            // given
+            PostCreateRequest request = new PostCreateRequest();
+            ReflectionTestUtils.setField(request, "title", "새 게시글");
+            ReflectionTestUtils.setField(request, "content", "새 내용");
+            ReflectionTestUtils.setField(request, "tags", List.of("Spring", "JPA", "Spring"));
+
+            given(userRepository.findByEmail("test@test.com")).willReturn(Optional.of(user));
+            given(blogRepository.findByUser(user)).willReturn(Optional.of(blog));
+            given(postRepository.save(any(Post.class))).willAnswer(invocation -> {
+                Post savedPost = invocation.getArgument(0);
+                ReflectionTestUtils.setField(savedPost, "id", 1L);
+                return savedPost;
+            });
+            given(tagInterner.intern(List.of("Spring", "JPA", "Spring"))).willReturn(List.of(
+                    new TagInterner.InternedTag(10L, "Spring"), new TagInterner.InternedTag(11L, "JPA")));
+
+            // when
+            PostResponse response = postService.createPost(request, "test@test.com");
+
+            // then
+            assertThat(response.getTags()).containsExactly("Spring", "JPA");
+            verify(tagMapRepository).saveAll(argThat((List<TagMap> tagMaps) -> tagMaps.size() == 2));
+            verify(tagRepository, never()).findByTitle(any());
+            verify(tagRepository, never()).save(any());
         }
 
         @Test
@@ -155,6 +482,62 @@ class PostServiceTest {
             // then
             assertThat(response.getTitle()).isEqualTo("수정된 제목");
             assertThat(response.getContent()).isEqualTo("수정된 내용");
+            verify(outboxPublisher).append(eq(OutboxEventType.POST_UPDATED), eq(1L), any());
+        }
+
+        @Test
+        @DisplayName("태그 구성이 같으면 태그 매핑 삭제/추가 없음")
+        void updatePost_SameTags() {
+            // given
+            PostUpdateRequest request = new PostUpdateRequest();
+            ReflectionTestUtils.setField(request, "title", "수정된 제목");
+            ReflectionTestUtils.setField(request, "content", "수정된 내용");
+            ReflectionTestUtils.setField(request, "tags", List.of("JPA", "Spring"));
+
+            given(postRepository.findById(1L)).willReturn(Optional.of(post));
+            given(tagInterner.intern(List.of("JPA", "Spring"))).willReturn(List.of(
+                    new TagInterner.InternedTag(2L, "JPA"), new TagInterner.InternedTag(1L, "Spring")));
+            given(tagMapRepository.findAllWithTagByPost(post)).willReturn(List.of(
+                    createTagMap(10L, 1L, "Spring"), createTagMap(11L, 2L, "JPA")));
+
+            // when
+            PostResponse response = postService.updatePost(1L, request, "test@test.com");
+
+            // then
+            assertThat(response.getTags()).containsExactly("JPA", "Spring");
+            verify(tagMapRepository, never()).deleteAllByIdInBatch(any());
+            verify(tagMapRepository, never()).deleteAllByPost(any());
+            verifyNoInteractions(tagRepository);
+            verify(tagMapRepository, never()).saveAll(any());
+        }
+
+        @Test
+        @DisplayName("빠진 태그 매핑만 삭제하고 새 태그만 추가")
+        void updatePost_TagDiff() {
+            // given
+            PostUpdateRequest request = new PostUpdateRequest();
+            ReflectionTestUtils.setField(request, "title", "수정된 제목");
+            ReflectionTestUtils.setField(request, "content", "수정된 내용");
+            ReflectionTestUtils.setField(request, "tags", List.of("Spring", "Java"));
+
+            given(postRepository.findById(1L)).willReturn(Optional.of(post));
+            given(tagInterner.intern(List.of("Spring", "Java"))).willReturn(List.of(
+                    new TagInterner.InternedTag(1L, "Spring"), new TagInterner.InternedTag(3L, "Java")));
+            given(tagMapRepository.findAllWithTagByPost(post)).willReturn(List.of(
+                    createTagMap(10L, 1L, "Spring"), createTagMap(11L, 2L, "JPA")));
+            Tag java = Tag.create("Java");
+            given(tagRepository.getReferenceById(3L)).willReturn(java);
+
+            // when
+            postService.updatePost(1L, request, "test@test.com");
+
+            // then
+            verify(tagMapRepository).deleteAllByIdInBatch(List.of(11L));
+            verify(tagMapRepository).saveAll(argThat((List<TagMap> tagMaps) ->
+                    tagMaps.size() == 1 && tagMaps.get(0).getTag() == java));
+            verify(outboxPublisher).append(eq(OutboxEventType.POST_UPDATED), eq(1L), argThat(payload ->
+                    ((Map<?, ?>) payload).get("removedTags").equals(List.of("JPA"))
+                            && ((Map<?, ?>) payload).get("tags").equals(List.of("Spring", "Java"))));
         }
 
         @Test
@@ -171,6 +554,53 @@ class PostServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("게시글 본문 부분 수정")
+    class PatchPost {
+
+        @Test
+        @DisplayName("기준 버전이 같으면 변경만 적용하고 태그는 건드리지 않음")
+        void patchPost_Success() {
+            // given
+            ReflectionTestUtils.setField(post, "version", 3L);
+            given(postRepository.findById(1L)).willReturn(Optional.of(post));
+            PostPatchRequest request = patchRequest(3L, PostPatchRequest.Edit.of(4, 2, "본문"));
+
+            // when
+            PostPatchResponse response = postService.patchPost(1L, request, "test@test.com");
+
+            // then
+            assertThat(post.getContent()).isEqualTo("테스트 본문");
+            assertThat(response.getContentLength()).isEqualTo("테스트 본문".length());
+            verify(postRepository).saveAndFlush(post);
+            verify(tagMapRepository, never()).saveAll(any());
+            verify(tagMapRepository, never()).deleteAllByIdInBatch(any());
+            verify(outboxPublisher).append(eq(OutboxEventType.POST_UPDATED), eq(1L), any());
+        }
+
+        @Test
+        @DisplayName("기준 버전이 다르면 ConflictException")
+        void patchPost_VersionConflict() {
+            // given
+            ReflectionTestUtils.setField(post, "version", 4L);
+            given(postRepository.findById(1L)).willReturn(Optional.of(post));
+            PostPatchRequest request = patchRequest(3L, PostPatchRequest.Edit.of(0, 0, "a"));
+
+            // when & then
+            assertThatThrownBy(() -> postService.patchPost(1L, request, "test@test.com"))
+                    .isInstanceOf(ConflictException.class);
+            assertThat(post.getContent()).isEqualTo("테스트 내용");
+            verify(postRepository, never()).saveAndFlush(any());
+        }
+
+        private PostPatchRequest patchRequest(Long baseVersion, PostPatchRequest.Edit... edits) {
+            PostPatchRequest request = new PostPatchRequest();
+            ReflectionTestUtils.setField(request, "baseVersion", baseVersion);
+            ReflectionTestUtils.setField(request, "edits", List.of(edits));
+            return request;
+        }
+    }
+
     @Nested
     @DisplayName("게시글 삭제")
     class DeletePost {
@@ -180,13 +610,40 @@ class PostServiceTest {
         void deletePost_Success() {
             // given
             given(postRepository.findById(1L)).willReturn(Optional.of(post));
+            given(postRepository.findBlogIdsByIds(List.of(1L))).willReturn(List.<Object[]>of(new Object[]{1L, 1L}));
+            given(tagMapRepository.findTagTitlesByPostIds(List.of(1L)))
+                    .willReturn(List.<Object[]>of(new Object[]{1L, "Spring"}));
+            given(postRepository.deleteAllByIds(List.of(1L))).willReturn(1);
 
             // when
             postService.deletePost(1L, "test@test.com");
 
             // then
-            verify(tagMapRepository).deleteAllByPost(post);
-            verify(postRepository).delete(post);
+            verify(commentRepository).detachRepliesByPostIds(List.of(1L));
+            verify(commentRepository).deleteAllByPostIds(List.of(1L));
+            verify(likeRepository).deleteAllByPostIds(List.of(1L));
+            verify(tagMapRepository).deleteAllByPostIds(List.of(1L));
+            verify(outboxPublisher).append(eq(OutboxEventType.POST_DELETED), eq(1L), argThat(payload ->
+                    ((Map<?, ?>) payload).get("tags").equals(List.of("Spring"))));
+        }
+
+        @Test
+        @DisplayName("일괄 삭제: 존재하는 게시글만 테이블별 IN 삭제 한 번씩")
+        void deletePosts_SetBased() {
+            // given
+            given(postRepository.findBlogIdsByIds(List.of(1L, 2L, 3L)))
+                    .willReturn(List.<Object[]>of(new Object[]{1L, 1L}, new Object[]{2L, 1L}));
+            given(postRepository.deleteAllByIds(List.of(1L, 2L))).willReturn(2);
+
+            // when
+            int deleted = postService.deletePosts(List.of(1L, 2L, 3L));
+
+            // then
+            assertThat(deleted).isEqualTo(2);
+            verify(commentRepository).deleteAllByPostIds(List.of(1L, 2L));
+            verify(likeRepository).deleteAllByPostIds(List.of(1L, 2L));
+            verify(tagMapRepository).deleteAllByPostIds(List.of(1L, 2L));
+            verify(outboxPublisher, times(2)).append(eq(OutboxEventType.POST_DELETED), anyLong(), any());
         }
 
         @Test
@@ -231,6 +688,18 @@ class PostServiceTest {
         }
     }
 
+    private PostSummary createSummary(Long id) {
+        return new PostSummary(id, "제목" + id, "요약" + id, user.getId(), user.getNickname(), 0, 0, LocalDateTime.now());
+    }
+
+    private TagMap createTagMap(Long id, Long tagId, String tagTitle) {
+        Tag tag = Tag.create(tagTitle);
+        ReflectionTestUtils.setField(tag, "id", tagId);
+        TagMap tagMap = TagMap.create(post, tag);
+        ReflectionTestUtils.setField(tagMap, "id", id);
+        return tagMap;
+    }
+
     private Post createTestPost(Long id, String title, String content, Blog blog) {
         Post post = Post.create(title, content, blog);
         ReflectionTestUtils.setField(post, "id", id);
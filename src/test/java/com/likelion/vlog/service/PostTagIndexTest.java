@@ -0,0 +1,128 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.vlog.entity.OutboxEvent;
+import com.likelion.vlog.entity.OutboxEventType;
+import com.likelion.vlog.repository.TagMapRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PostTagIndexTest {
+
+    @Mock
+    private TagMapRepository tagMapRepository;
+
+    private PostTagIndex postTagIndex;
+
+    @BeforeEach
+    void setUp() {
+        postTagIndex = new PostTagIndex(tagMapRepository, 2);
+    }
+
+    @Test
+    @DisplayName("tag_maps를 청크 단위로 읽어 태그별 정렬된 id 배열 구성")
+    void build_Success() {
+        // given
+        given(tagMapRepository.findIndexEntries(eq(0L), any())).willReturn(List.of(
+                new Object[]{1L, 5L, "Spring"}, new Object[]{2L, 2L, "Spring"}));
+        given(tagMapRepository.findIndexEntries(eq(2L), any())).willReturn(List.of(
+                new Object[]{3L, 2L, "JPA"}));
+        given(tagMapRepository.findIndexEntries(eq(3L), any())).willReturn(List.of());
+
+        // when
+        postTagIndex.build();
+
+        // then
+        assertThat(postTagIndex.ready()).isTrue();
+        assertThat(postTagIndex.postIds("Spring")).containsExactly(2L, 5L);
+        assertThat(postTagIndex.postIds("JPA")).containsExactly(2L);
+        assertThat(postTagIndex.postIds("없는태그")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("태그명은 DB 조회와 같이 공백 정규화 + 대소문자 무시로 색인/조회")
+    void postIds_NormalizedKey() {
+        // given
+        given(tagMapRepository.findIndexEntries(eq(0L), any())).willReturn(List.of(
+                new Object[]{1L, 5L, "Spring Boot"}));
+        given(tagMapRepository.findIndexEntries(eq(1L), any())).willReturn(List.of());
+        postTagIndex.build();
+
+        // when
+        postTagIndex.updateAfterCommit(7L, List.of(), List.of("spring  boot"));
+        postTagIndex.updateAfterCommit(5L, List.of(" SPRING BOOT "), List.of());
+
+        // then
+        assertThat(postTagIndex.postIds("spring boot")).containsExactly(7L);
+        assertThat(postTagIndex.postIds("Spring  Boot ")).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("구성 중에 들어온 변경은 구성 완료 후 반영")
+    void update_BeforeReady() {
+        // given
+        given(tagMapRepository.findIndexEntries(eq(0L), any())).willReturn(List.of());
+        postTagIndex.updateAfterCommit(3L, List.of(), List.of("Spring"));
+        assertThat(postTagIndex.postIds("Spring")).isEmpty();
+
+        // when
+        postTagIndex.build();
+
+        // then
+        assertThat(postTagIndex.postIds("Spring")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("태그 추가/제거 시 정렬 순서 유지, 빈 태그는 제거")
+    void update_KeepsSortedOrder() {
+        // given
+        given(tagMapRepository.findIndexEntries(eq(0L), any())).willReturn(List.of());
+        postTagIndex.build();
+
+        // when
+        postTagIndex.updateAfterCommit(7L, List.of(), List.of("Spring", "JPA"));
+        postTagIndex.updateAfterCommit(3L, List.of(), List.of("Spring"));
+        postTagIndex.updateAfterCommit(5L, List.of(), List.of("Spring"));
+        postTagIndex.updateAfterCommit(7L, List.of("JPA"), List.of());
+
+        // then
+        assertThat(postTagIndex.postIds("Spring")).containsExactly(3L, 5L, 7L);
+        assertThat(postTagIndex.postIds("JPA")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("아웃박스 이벤트: 작성/수정(빠진 태그 제거)/삭제 순서대로 반영")
+    void onEvent_PostLifecycle() throws Exception {
+        // given
+        given(tagMapRepository.findIndexEntries(eq(0L), any())).willReturn(List.of());
+        postTagIndex.build();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        // when
+        postTagIndex.onEvent(OutboxEvent.create(OutboxEventType.POST_CREATED, 3L, null),
+                objectMapper.readTree("{\"tags\":[\"Spring\",\"JPA\"]}"));
+        postTagIndex.onEvent(OutboxEvent.create(OutboxEventType.POST_UPDATED, 3L, null),
+                objectMapper.readTree("{\"tags\":[\"Spring\",\"Java\"],\"removedTags\":[\"JPA\"]}"));
+        postTagIndex.onEvent(OutboxEvent.create(OutboxEventType.POST_CREATED, 5L, null),
+                objectMapper.readTree("{\"tags\":[\"Java\"]}"));
+        postTagIndex.onEvent(OutboxEvent.create(OutboxEventType.POST_DELETED, 5L, null),
+                objectMapper.readTree("{\"tags\":[\"Java\"]}"));
+
+        // then
+        assertThat(postTagIndex.postIds("Spring")).containsExactly(3L);
+        assertThat(postTagIndex.postIds("JPA")).isEmpty();
+        assertThat(postTagIndex.postIds("Java")).containsExactly(3L);
+    }
+}
@@ -0,0 +1,97 @@
+package com.likelion.vlog.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCounterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private PostDetailCache postDetailCache;
+    @Mock
+    private TrendingRanking trendingRanking;
+
+    private PostViewCounter postViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        postViewCounter = new PostViewCounter(jdbcTemplate, transactionManager, postDetailCache, trendingRanking, 60_000L, 100L);
+    }
+
+    @Test
+    @DisplayName("같은 방문자의 반복 조회는 한 번만 집계")
+    void record_DeduplicatesSameViewer() {
+        // when
+        boolean first = postViewCounter.record(1L, "s:abc");
+        boolean second = postViewCounter.record(1L, "s:abc");
+        boolean other = postViewCounter.record(1L, "s:def");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(other).isTrue();
+        assertThat(postViewCounter.pending(1L)).isEqualTo(2);
+        verify(trendingRanking, times(2)).viewed(1L);
+    }
+
+    @Test
+    @DisplayName("중복 집계 제외 기록이 최대 개수를 넘으면 오래된 기록부터 제거")
+    void record_BoundedDedup() {
+        // given
+        for (int i = 0; i < 1_000; i++) {
+            postViewCounter.record(1L, "ip:" + i);
+        }
+
+        // when & then
+        assertThat(postViewCounter.trackedViewers()).isLessThanOrEqualTo(100);
+        assertThat(postViewCounter.pending(1L)).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("flush 시 누적된 조회수를 한 번의 batch UPDATE로 반영")
+    @SuppressWarnings("unchecked")
+    void flush_BatchUpdate() {
+        // given
+        postViewCounter.record(1L, "s:abc");
+        postViewCounter.record(1L, "s:def");
+        postViewCounter.record(2L, "s:abc");
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).containsExactly(new Object[]{2L, 1L}, new Object[]{1L, 2L});
+        assertThat(postViewCounter.pending(1L)).isZero();
+        verify(postDetailCache).evictAll(java.util.Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("반영할 조회수가 없으면 UPDATE 하지 않음")
+    void flush_Empty() {
+        // when
+        postViewCounter.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+}
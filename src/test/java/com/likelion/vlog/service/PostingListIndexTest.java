@@ -0,0 +1,70 @@
+package com.likelion.vlog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListIndexTest {
+
+    private final PostingListIndex<String> index = new PostingListIndex<>();
+
+    @Test
+    @DisplayName("청크를 끝까지 읽어 key별 오름차순 게시글 id 구성")
+    void build_Chunked() {
+        // given
+        List<List<Object[]>> chunks = List.of(
+                List.of(new Object[]{1L, "a", 9L}, new Object[]{2L, "b", 4L}),
+                List.of(new Object[]{5L, "a", 2L}),
+                List.of());
+
+        // when
+        long total = index.build(lastId -> chunks.get(lastId == 0L ? 0 : lastId == 2L ? 1 : 2),
+                row -> (String) row[1], row -> (Long) row[2]);
+
+        // then
+        assertThat(total).isEqualTo(3);
+        assertThat(index.ready()).isTrue();
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.get("a")).containsExactly(2L, 9L);
+        assertThat(index.get("missing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구성 전에 들어온 변경은 구성 완료 후 순서대로 반영, 비게 된 key는 제거")
+    void afterCommit_BeforeReady() {
+        // given
+        index.afterCommit(() -> index.add("a", 3L));
+        index.afterCommit(() -> index.remove("a", 3L));
+        index.afterCommit(() -> index.add("b", 7L));
+        assertThat(index.ready()).isFalse();
+
+        // when
+        index.build(lastId -> List.of(), row -> (String) row[1], row -> (Long) row[2]);
+
+        // then
+        assertThat(index.get("a")).isEmpty();
+        assertThat(index.get("b")).containsExactly(7L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("removeKey는 key의 게시글 id를 모두 제거")
+    void removeKey() {
+        // given
+        index.build(lastId -> List.of(), row -> (String) row[1], row -> (Long) row[2]);
+        index.add("a", 3L);
+        index.add("a", 5L);
+        index.add("b", 7L);
+
+        // when
+        index.afterCommit(() -> index.removeKey("a"));
+
+        // then
+        assertThat(index.get("a")).isEmpty();
+        assertThat(index.get("b")).containsExactly(7L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.likelion.vlog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListsTest {
+
+    @Test
+    @DisplayName("교집합: 길이 차이가 큰 목록도 galloping으로 정확히 교차")
+    void intersect_Galloping() {
+        // given
+        long[] small = {3L, 500L, 999L, 1_500L};
+        long[] large = LongStream.range(0, 1_000).toArray();
+
+        // when
+        long[] result = PostingLists.intersect(small, large);
+
+        // then
+        assertThat(result).containsExactly(3L, 500L, 999L);
+    }
+
+    @Test
+    @DisplayName("여러 목록의 교집합, 하나라도 비면 빈 결과")
+    void intersectAll_Success() {
+        // when
+        long[] result = PostingLists.intersectAll(List.of(
+                new long[]{1L, 2L, 3L, 5L, 8L}, new long[]{2L, 3L, 8L, 13L}, new long[]{3L, 8L}));
+        long[] empty = PostingLists.intersectAll(List.of(new long[]{1L, 2L}, new long[0]));
+
+        // then
+        assertThat(result).containsExactly(3L, 8L);
+        assertThat(empty).isEmpty();
+    }
+
+    @Test
+    @DisplayName("합집합: k-way merge로 정렬 순서 유지, 중복 제거")
+    void union_Success() {
+        // when
+        long[] result = PostingLists.union(List.of(
+                new long[]{1L, 4L, 9L}, new long[]{2L, 4L}, new long[0], new long[]{9L, 10L}));
+
+        // then
+        assertThat(result).containsExactly(1L, 2L, 4L, 9L, 10L);
+    }
+
+    @Test
+    @DisplayName("추가/제거: 정렬 순서 유지, 변경이 없으면 같은 배열 반환")
+    void insertRemove_Success() {
+        // given
+        long[] list = {2L, 5L};
+
+        // when
+        long[] inserted = PostingLists.insert(list, 3L);
+        long[] removed = PostingLists.remove(inserted, 5L);
+
+        // then
+        assertThat(inserted).containsExactly(2L, 3L, 5L);
+        assertThat(removed).containsExactly(2L, 3L);
+        assertThat(PostingLists.insert(list, 5L)).isSameAs(list);
+        assertThat(PostingLists.remove(list, 4L)).isSameAs(list);
+    }
+
+    @Test
+    @DisplayName("Builder: 순서 없이 추가한 값을 중복 없는 오름차순으로 구성")
+    void builder_SortedDistinct() {
+        // given
+        PostingLists.Builder builder = new PostingLists.Builder();
+        LongStream.of(9L, 1L, 5L, 1L, 12L, 5L, 3L, 8L, 2L).forEach(builder::add);
+
+        // when & then
+        assertThat(builder.build()).containsExactly(1L, 2L, 3L, 5L, 8L, 9L, 12L);
+    }
+}
@@ -0,0 +1,110 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.entity.Tag;
+import com.likelion.vlog.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TagInternerTest {
+
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TagInterner tagInterner;
+
+    @BeforeEach
+    void setUp() {
+        tagInterner = new TagInterner(tagRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("캐시된 태그는 DB 조회 없이 id 반환, 정규화 후 중복은 하나로")
+    void intern_CachedTags() {
+        // given
+        given(tagRepository.findAllIdAndTitle()).willReturn(List.<Object[]>of(new Object[]{1L, "Spring"}));
+        tagInterner.warmUp();
+
+        // when
+        List<TagInterner.InternedTag> result = tagInterner.intern(List.of(" Spring ", "spring", "  "));
+
+        // then
+        assertThat(result).containsExactly(new TagInterner.InternedTag(1L, "Spring"));
+        verify(tagRepository, never()).findAllByTitleIn(any());
+    }
+
+    @Test
+    @DisplayName("없는 태그는 IN 조회 후 남은 것만 일괄 생성")
+    void intern_CreatesMissingTags() {
+        // given
+        given(tagRepository.findAllByTitleIn(List.of("JPA", "Java"))).willReturn(List.of(tag(2L, "JPA")));
+        given(tagRepository.saveAllAndFlush(anyList())).willReturn(List.of(tag(3L, "Java")));
+
+        // when
+        List<TagInterner.InternedTag> result = tagInterner.intern(List.of("JPA", "Java"));
+
+        // then
+        assertThat(result).extracting(TagInterner.InternedTag::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("동시에 생성되어 유니크 제약에 걸리면 먼저 생성된 태그를 다시 조회하여 사용")
+    void intern_ConvergesOnConflict() {
+        // given
+        given(tagRepository.findAllByTitleIn(List.of("Spring"))).willReturn(List.of());
+        given(tagRepository.saveAllAndFlush(anyList())).willThrow(new DataIntegrityViolationException("uk_tags_title"));
+        given(tagRepository.saveAndFlush(any(Tag.class))).willThrow(new DataIntegrityViolationException("uk_tags_title"));
+        given(tagRepository.findByTitle("Spring")).willReturn(Optional.of(tag(1L, "Spring")));
+
+        // when
+        List<TagInterner.InternedTag> result = tagInterner.intern(List.of("Spring"));
+
+        // then
+        assertThat(result).containsExactly(new TagInterner.InternedTag(1L, "Spring"));
+    }
+
+    @Test
+    @DisplayName("collation상 같은 다른 표기(café / cafe)는 저장된 태그로 수렴하고 요청 표기로도 캐시")
+    void intern_AccentInsensitiveCollation() {
+        // given
+        given(tagRepository.findAllByTitleIn(List.of("café", "cafe"))).willReturn(List.of(tag(1L, "cafe")));
+        given(tagRepository.saveAllAndFlush(anyList())).willThrow(new DataIntegrityViolationException("uk_tags_title"));
+        given(tagRepository.saveAndFlush(any(Tag.class))).willThrow(new DataIntegrityViolationException("uk_tags_title"));
+        given(tagRepository.findByTitle("café")).willReturn(Optional.of(tag(1L, "cafe")));
+
+        // when
+        List<TagInterner.InternedTag> first = tagInterner.intern(List.of("café", "cafe"));
+        List<TagInterner.InternedTag> second = tagInterner.intern(List.of("Café"));
+
+        // then
+        assertThat(first).containsExactly(new TagInterner.InternedTag(1L, "cafe"));
+        assertThat(second).containsExactly(new TagInterner.InternedTag(1L, "cafe"));
+        verify(tagRepository, times(1)).findAllByTitleIn(any());
+    }
+
+    private Tag tag(Long id, String title) {
+        Tag tag = Tag.create(title);
+        ReflectionTestUtils.setField(tag, "id", id);
+        return tag;
+    }
+}
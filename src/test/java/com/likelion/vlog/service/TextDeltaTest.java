@@ -0,0 +1,51 @@
+package com.likelion.vlog.service;
+
+import com.likelion.vlog.dto.request.PostPatchRequest.Edit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextDeltaTest {
+
+    @Test
+    @DisplayName("원본 기준 위치로 삽입/삭제/치환을 한 번에 적용")
+    void apply_Success() {
+        // given
+        String base = "Hello world, vlog!";
+
+        // when
+        String result = TextDelta.apply(base, List.of(
+                Edit.of(0, 0, ">> "),           // 앞에 삽입
+                Edit.of(6, 5, "Spring"),        // world -> Spring
+                Edit.of(11, 7, null)));         // ", vlog!" 삭제
+
+        // then
+        assertThat(result).isEqualTo(">> Hello Spring");
+    }
+
+    @Test
+    @DisplayName("겹치거나 범위를 벗어난 변경은 예외 발생")
+    void apply_InvalidRange() {
+        // when & then
+        assertThatThrownBy(() -> TextDelta.apply("abcdef", List.of(Edit.of(1, 3, "x"), Edit.of(2, 1, "y"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TextDelta.apply("abc", List.of(Edit.of(2, 5, null))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("서로게이트 쌍(이모지 등)을 가르는 위치는 예외 발생")
+    void apply_SplitsSurrogatePair() {
+        // given
+        String base = "a😀b";
+
+        // when & then
+        assertThat(TextDelta.apply(base, List.of(Edit.of(1, 2, "!")))).isEqualTo("a!b");
+        assertThatThrownBy(() -> TextDelta.apply(base, List.of(Edit.of(2, 0, "x"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
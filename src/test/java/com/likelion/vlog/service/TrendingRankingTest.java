@@ -0,0 +1,145 @@
+package com.likelion.vlog.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.likelion.vlog.entity.OutboxEvent;
+import com.likelion.vlog.entity.OutboxEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingRankingTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TrendingRanking trendingRanking;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        trendingRanking = new TrendingRanking(jdbcTemplate, transactionManager, Duration.ofHours(1), 3, 1, 5, 10);
+        now = System.currentTimeMillis();
+    }
+
+    @Test
+    @DisplayName("오래된 반응은 반감기만큼 감쇠되어 최근 반응보다 낮은 순위")
+    void record_DecaysOlderEvents() {
+        // given - 1번: 3시간 전 댓글 (10 -> 1.25), 2번: 지금 좋아요 (5)
+        trendingRanking.record(1L, 10, now - 3 * HOUR);
+        trendingRanking.record(2L, 5, now);
+
+        // when
+        TrendingRanking.RankedPage page = trendingRanking.page(0, 10);
+
+        // then
+        assertThat(page.postIds()).containsExactly(2L, 1L);
+        assertThat(page.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가득 차면 최하위보다 높은 점수의 게시글만 들어오고 최하위는 제외")
+    void record_EvictsLowestWhenFull() {
+        // given
+        trendingRanking.record(1L, 10, now);
+        trendingRanking.record(2L, 5, now);
+        trendingRanking.record(3L, 1, now);
+
+        // when
+        trendingRanking.record(4L, 1, now);   // 최하위와 같으면 들어오지 못함
+        trendingRanking.record(5L, 5, now);   // 3번 제외
+
+        // then
+        assertThat(trendingRanking.page(0, 10).postIds()).containsExactly(1L, 2L, 5L);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 등 음수 가중치는 기존 게시글 점수만 낮추고 새로 추가하지 않음")
+    void record_NegativeWeight() {
+        // given
+        trendingRanking.record(1L, 5, now);
+        trendingRanking.record(2L, 3, now);
+
+        // when
+        trendingRanking.record(1L, -5, now);
+        trendingRanking.record(9L, -5, now);
+
+        // then
+        assertThat(trendingRanking.page(0, 10).postIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("offset/size로 순위를 나눠 조회하고 삭제된 게시글은 제외")
+    void page_OffsetAndRemove() {
+        // given
+        trendingRanking.record(1L, 10, now);
+        trendingRanking.record(2L, 5, now);
+        trendingRanking.record(3L, 1, now);
+        trendingRanking.remove(1L);
+
+        // when
+        TrendingRanking.RankedPage first = trendingRanking.page(0, 1);
+        TrendingRanking.RankedPage second = trendingRanking.page(1, 1);
+        TrendingRanking.RankedPage empty = trendingRanking.page(2, 1);
+
+        // then
+        assertThat(first.postIds()).containsExactly(2L);
+        assertThat(second.postIds()).containsExactly(3L);
+        assertThat(empty.postIds()).isEmpty();
+        assertThat(first.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("아웃박스 이벤트: 좋아요/댓글은 점수 반영, 좋아요 취소는 차감, 게시글 삭제는 순위에서 제거")
+    void onEvent_UpdatesScore() {
+        // given
+        ObjectNode payload = new ObjectMapper().createObjectNode();
+        trendingRanking.onEvent(OutboxEvent.create(OutboxEventType.LIKE_ADDED, 1L, null), payload);
+        trendingRanking.onEvent(OutboxEvent.create(OutboxEventType.COMMENT_CREATED, 2L, null), payload);
+        trendingRanking.onEvent(OutboxEvent.create(OutboxEventType.LIKE_ADDED, 3L, null), payload);
+
+        // when
+        trendingRanking.onEvent(OutboxEvent.create(OutboxEventType.LIKE_REMOVED, 1L, null), payload);
+        trendingRanking.onEvent(OutboxEvent.create(OutboxEventType.POST_DELETED, 3L, null), payload);
+
+        // then
+        assertThat(trendingRanking.page(0, 10).postIds()).containsExactly(2L, 1L);
+        assertThat(trendingRanking.supports(OutboxEventType.POST_UPDATED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("checkpoint 시 전체 삭제 후 현재 순위를 한 번의 batch INSERT로 저장")
+    @SuppressWarnings("unchecked")
+    void checkpoint_BatchInsert() {
+        // given
+        trendingRanking.record(1L, 10, now);
+        trendingRanking.record(2L, 5, now);
+
+        // when
+        trendingRanking.checkpoint();
+
+        // then
+        verify(jdbcTemplate).update("DELETE FROM trending_scores");
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).extracting(row -> row[0]).containsExactly(1L, 2L);
+    }
+}